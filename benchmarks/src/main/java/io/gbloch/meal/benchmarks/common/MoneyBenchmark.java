@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.common;
+
+import io.gbloch.meal.domain.vo.Money;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Money arithmetic, every operation rescales its result.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private Money price = new Money(new BigDecimal("12.50"));
+    private Money credit = new Money(new BigDecimal("1000.00"));
+    private int quantity = 3;
+
+    @Benchmark
+    public Money add() {
+        return credit.add(price);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return credit.subtract(price);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(quantity);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return price.isGreaterThan(credit);
+    }
+
+    @Benchmark
+    public Money subTotal() {
+        return price.multiply(quantity).add(price.multiply(quantity));
+    }
+}
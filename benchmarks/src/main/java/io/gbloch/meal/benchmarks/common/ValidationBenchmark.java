@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.common;
+
+import io.gbloch.meal.core.validation.Validation;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validators on valid inputs, as run by the constructors of the value objects: the fluent
+ * validators against the static checks.
+ * <p>
+ * Run with the gc profiler ({@code -prof gc}, or the profiling profile), the static checks must
+ * report a {@code gc.alloc.rate.norm} of 0 B/op.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private String street = "1 Main Street";
+    private Integer quantity = 3;
+    private BigDecimal amount = new BigDecimal("10.00");
+    private List<String> messages = List.of("first", "second", "third");
+
+    @Benchmark
+    public void notNull() {
+        Validation.notNull("street", street);
+    }
+
+    @Benchmark
+    public void string() {
+        Validation.field("street", street).notBlank().maxLength(255);
+    }
+
+    @Benchmark
+    public void integer() {
+        Validation.field("quantity", quantity).positive().max(1000);
+    }
+
+    @Benchmark
+    public void bigDecimal() {
+        Validation.field("amount", amount).notNull().strictlyPositive();
+    }
+
+    @Benchmark
+    public void collection() {
+        Validation.field("messages", messages).notEmpty().maxSize(10).noNullElement();
+    }
+
+    @Benchmark
+    public void staticString() {
+        Validation.notBlank("street", street);
+        Validation.maxLength("street", street, 255);
+    }
+
+    @Benchmark
+    public void staticInteger() {
+        Validation.min("quantity", quantity, 1);
+        Validation.max("quantity", quantity, 1000);
+    }
+
+    @Benchmark
+    public void staticBigDecimal() {
+        Validation.over("amount", amount, BigDecimal.ZERO);
+    }
+
+    @Benchmark
+    public void staticCollection() {
+        Validation.notEmpty("messages", messages);
+        Validation.maxSize("messages", messages, 10);
+        Validation.noNullElement("messages", messages);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of blocking requests on the worker pool against virtual threads when every request
+ * holds a pooled connection for the duration of a simulated database round trip.
+ *
+ * <p>The worker pool mirrors the Quarkus default of 200 threads; the semaphore stands for the
+ * JDBC pool. The virtual variant needs a Java 21 runtime ({@code -Pvirtual-threads}).
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockingExecutionBenchmark {
+
+    private static final int REQUESTS = 1_000;
+    private static final int WORKER_POOL_SIZE = 200;
+
+    @Param({ "worker", "virtual" })
+    public String executor;
+
+    @Param({ "1", "5" })
+    public long dbLatencyMillis;
+
+    @Param({ "20", "100" })
+    public int connectionPoolSize;
+
+    private ExecutorService executorService;
+    private Semaphore connectionPool;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        executorService =
+            "virtual".equals(executor)
+                ? (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null)
+                : Executors.newFixedThreadPool(WORKER_POOL_SIZE);
+        connectionPool = new Semaphore(connectionPoolSize, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int blockingRequests() throws InterruptedException, ExecutionException {
+        List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            int request = i;
+            responses.add(executorService.submit(() -> query(request)));
+        }
+        int sum = 0;
+        for (Future<Integer> response : responses) {
+            sum += response.get();
+        }
+        return sum;
+    }
+
+    private int query(int request) throws InterruptedException {
+        connectionPool.acquire();
+        try {
+            Thread.sleep(dbLatencyMillis);
+            return request;
+        } finally {
+            connectionPool.release();
+        }
+    }
+}
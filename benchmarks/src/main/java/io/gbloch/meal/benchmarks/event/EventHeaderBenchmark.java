@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.event;
+
+import io.gbloch.meal.domain.event.EventHeader;
+import io.gbloch.meal.domain.event.EventHeaderFactory;
+import io.gbloch.meal.domain.event.EventSourceType;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Event header creation through the {@link EventHeaderFactory} against the former builder with
+ * random UUIDs and {@link Instant#now()}.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class EventHeaderBenchmark {
+
+    private EventHeaderFactory factory;
+    private EventHeader cause;
+
+    @Setup
+    public void setUp() {
+        factory = EventHeaderFactory.forSource(EventSourceType.ORDER);
+        cause = factory.create();
+    }
+
+    @Benchmark
+    public EventHeader builder() {
+        return EventHeader
+            .builder()
+            .eventId(UUID.randomUUID())
+            .correlationId(UUID.randomUUID())
+            .causationId(UUID.randomUUID())
+            .source(EventSourceType.ORDER)
+            .version(1)
+            .timestamp(Instant.now())
+            .build();
+    }
+
+    @Benchmark
+    public EventHeader factoryRoot() {
+        return factory.create();
+    }
+
+    @Benchmark
+    public EventHeader factoryCausedBy() {
+        return factory.causedBy(cause);
+    }
+}
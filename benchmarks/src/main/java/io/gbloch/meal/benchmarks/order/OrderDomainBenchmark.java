@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.order;
+
+import io.gbloch.meal.domain.vo.ActiveType;
+import io.gbloch.meal.domain.vo.Address;
+import io.gbloch.meal.domain.vo.CustomerId;
+import io.gbloch.meal.domain.vo.IdGenerator;
+import io.gbloch.meal.domain.vo.Money;
+import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.domain.vo.ProductLabel;
+import io.gbloch.meal.domain.vo.Quantity;
+import io.gbloch.meal.domain.vo.RestaurantId;
+import io.gbloch.meal.order.domain.entity.Order;
+import io.gbloch.meal.order.domain.entity.OrderItem;
+import io.gbloch.meal.order.domain.entity.Product;
+import io.gbloch.meal.order.domain.entity.Restaurant;
+import io.gbloch.meal.order.domain.event.OrderCreatedEvent;
+import io.gbloch.meal.order.domain.service.OrderDomainService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Order creation: validation and initialization of the aggregate, and the whole domain service.
+ * <p>
+ * The order is mutated by its initialization, so every operation builds a fresh one, the
+ * {@link #build()} baseline gives the share of the construction.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDomainBenchmark {
+
+    private static final Money PRICE = new Money(new BigDecimal("10.00"));
+    private static final Quantity QUANTITY = new Quantity(2);
+    private static final Money SUB_TOTAL = PRICE.multiply(QUANTITY.quantity());
+
+    @Param({ "1", "10", "100" })
+    int items;
+
+    private final OrderDomainService orderDomainService = new OrderDomainService();
+    private CustomerId customerId;
+    private RestaurantId restaurantId;
+    private Address address;
+    private Product[] products;
+    private Restaurant restaurant;
+
+    @Setup
+    public void setUp() {
+        customerId = new CustomerId();
+        restaurantId = new RestaurantId();
+        address = new Address(IdGenerator.next(), "street", "city", "12345", "country");
+        products = new Product[items];
+        Set<Product> restaurantProducts = new HashSet<>(items * 2);
+        for (int i = 0; i < items; i++) {
+            ProductId productId = new ProductId();
+            products[i] =
+                Product
+                    .builder()
+                    .productId(productId)
+                    .label(new ProductLabel("product-" + i))
+                    .price(PRICE)
+                    .build();
+            restaurantProducts.add(
+                Product
+                    .builder()
+                    .productId(productId)
+                    .label(new ProductLabel("product-" + i))
+                    .price(PRICE)
+                    .build()
+            );
+        }
+        restaurant =
+            Restaurant
+                .builder()
+                .id(restaurantId)
+                .products(restaurantProducts)
+                .active(ActiveType.ACTIVE)
+                .build();
+    }
+
+    @Benchmark
+    public Order build() {
+        return newOrder();
+    }
+
+    @Benchmark
+    public Order validateAndInitialize() {
+        Order order = newOrder();
+        order.validate();
+        order.initialize();
+        return order;
+    }
+
+    @Benchmark
+    public OrderCreatedEvent createOrder() {
+        return orderDomainService.createOrder(newOrder(), restaurant);
+    }
+
+    private Order newOrder() {
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        for (Product product : products) {
+            orderItems.add(
+                OrderItem
+                    .builder()
+                    .product(product)
+                    .price(PRICE)
+                    .quantity(QUANTITY)
+                    .subTotal(SUB_TOTAL)
+                    .build()
+            );
+        }
+        return Order
+            .builder()
+            .customerId(customerId)
+            .restaurantId(restaurantId)
+            .deliveryAddress(address)
+            .price(SUB_TOTAL.multiply(items))
+            .items(orderItems)
+            .build();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.order;
+
+import io.gbloch.meal.domain.error.ErrorMessages;
+import io.gbloch.meal.domain.vo.Address;
+import io.gbloch.meal.domain.vo.CustomerId;
+import io.gbloch.meal.domain.vo.IdGenerator;
+import io.gbloch.meal.domain.vo.Money;
+import io.gbloch.meal.domain.vo.OrderId;
+import io.gbloch.meal.domain.vo.OrderStatus;
+import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.domain.vo.Quantity;
+import io.gbloch.meal.domain.vo.RestaurantId;
+import io.gbloch.meal.order.domain.entity.Order;
+import io.gbloch.meal.order.domain.entity.OrderItem;
+import io.gbloch.meal.order.domain.entity.Product;
+import io.gbloch.meal.order.domain.vo.OrderItemId;
+import io.gbloch.meal.order.domain.vo.TrackingId;
+import io.gbloch.meal.order.infrastucture.entity.OrderEntity;
+import io.gbloch.meal.order.infrastucture.mapper.OrderMapper;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping cost of an order aggregate to its JPA entities and back, per number of items.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    private static final Money PRICE = new Money(new BigDecimal("10.00"));
+
+    @Param({ "1", "10", "100" })
+    int items;
+
+    private OrderMapper orderMapper;
+    private Order order;
+    private OrderEntity orderEntity;
+
+    @Setup
+    public void setUp() {
+        orderMapper = Mappers.getMapper(OrderMapper.class);
+        OrderId orderId = new OrderId();
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            orderItems.add(
+                OrderItem
+                    .builder()
+                    .id(new OrderItemId(i + 1L))
+                    .orderId(orderId)
+                    .product(new Product(new ProductId()))
+                    .price(PRICE)
+                    .quantity(new Quantity(1))
+                    .subTotal(PRICE)
+                    .build()
+            );
+        }
+        order =
+            Order
+                .builder()
+                .id(orderId)
+                .customerId(new CustomerId())
+                .restaurantId(new RestaurantId())
+                .trackingId(new TrackingId())
+                .deliveryAddress(
+                    new Address(IdGenerator.next(), "street", "city", "12345", "country")
+                )
+                .price(PRICE.multiply(items))
+                .items(orderItems)
+                .status(OrderStatus.PENDING)
+                .errors(new ErrorMessages(List.of("first failure", "second failure")))
+                .build();
+        orderEntity = orderMapper.toOrderEntity(order);
+    }
+
+    @Benchmark
+    public OrderEntity toOrderEntity() {
+        return orderMapper.toOrderEntity(order);
+    }
+
+    @Benchmark
+    public Order toOrder() {
+        return orderMapper.toOrder(orderEntity);
+    }
+}
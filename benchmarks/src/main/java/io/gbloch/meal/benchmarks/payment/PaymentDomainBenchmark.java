@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.payment;
+
+import io.gbloch.meal.domain.vo.CustomerId;
+import io.gbloch.meal.domain.vo.Money;
+import io.gbloch.meal.domain.vo.OrderId;
+import io.gbloch.meal.payment.domain.entity.CreditEntry;
+import io.gbloch.meal.payment.domain.entity.CreditHistory;
+import io.gbloch.meal.payment.domain.entity.Payment;
+import io.gbloch.meal.payment.domain.event.PaymentEvent;
+import io.gbloch.meal.payment.domain.service.PaymentDomainService;
+import io.gbloch.meal.payment.domain.vo.CreditEntryId;
+import io.gbloch.meal.payment.domain.vo.CreditHistoryId;
+import io.gbloch.meal.payment.domain.vo.TransactionType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Payment initiation against credit histories of growing size.
+ * <p>
+ * The credit entry and the histories are updated by the payment, so every operation works on
+ * copies of the reference ones.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentDomainBenchmark {
+
+    private static final Money PRICE = new Money(new BigDecimal("10.00"));
+
+    @Param({ "10", "100", "1000", "10000" })
+    int creditHistories;
+
+    private final PaymentDomainService paymentDomainService = new PaymentDomainService();
+    private CustomerId customerId;
+    private OrderId orderId;
+    private CreditEntry creditEntry;
+    private List<CreditHistory> histories;
+
+    @Setup
+    public void setUp() {
+        customerId = new CustomerId();
+        orderId = new OrderId();
+        creditEntry =
+            CreditEntry
+                .builder()
+                .id(new CreditEntryId())
+                .customerId(customerId)
+                .totalCreditAmount(PRICE.multiply(creditHistories))
+                .build();
+        histories = new ArrayList<>(creditHistories);
+        for (int i = 0; i < creditHistories; i++) {
+            histories.add(
+                CreditHistory
+                    .builder()
+                    .id(new CreditHistoryId())
+                    .customerId(customerId)
+                    .amount(PRICE)
+                    .transactionType(TransactionType.CREDIT)
+                    .build()
+            );
+        }
+    }
+
+    @Benchmark
+    public PaymentEvent validateAndInitiatePayment() {
+        Payment payment = Payment
+            .builder()
+            .orderId(orderId)
+            .customerId(customerId)
+            .price(PRICE)
+            .build();
+        List<CreditHistory> creditHistoriesCopy = new ArrayList<>(creditHistories + 1);
+        creditHistoriesCopy.addAll(histories);
+        return paymentDomainService.validateAndInitiatePayment(
+            payment,
+            creditEntry.copy(),
+            creditHistoriesCopy,
+            new ArrayList<>()
+        );
+    }
+}
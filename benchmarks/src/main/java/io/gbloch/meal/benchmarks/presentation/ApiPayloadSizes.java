@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Prints the payload size, in bytes, of the documents of the {@link ApiRepresentationBenchmark} in
+ * each representation, as a table.
+ * <p>
+ * Run from the benchmarks module with
+ * {@code java -cp target/benchmarks.jar io.gbloch.meal.benchmarks.presentation.ApiPayloadSizes}.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class ApiPayloadSizes {
+
+    private static final List<String> DOCUMENTS = List.of(
+        "createOrderCommand",
+        "createOrderResponse",
+        "trackOrderResponse"
+    );
+    private static final List<String> FORMATS = List.of("json", "cbor", "smile");
+    private static final List<String> CODECS = List.of("databind", "streaming");
+    private static final String ROW = "%-20s %-10s %6s %6s %6s%n";
+
+    private ApiPayloadSizes() {}
+
+    public static void main(String[] args) throws IOException {
+        System.out.printf(ROW, "document", "codecs", "json", "cbor", "smile");
+        for (String document : DOCUMENTS) {
+            Object value = ApiRepresentationBenchmark.document(document);
+            for (String codecs : CODECS) {
+                Object[] row = { document, codecs, 0, 0, 0 };
+                for (int i = 0; i < FORMATS.size(); i++) {
+                    ObjectMapper mapper = ApiRepresentationBenchmark.mapper(FORMATS.get(i), codecs);
+                    row[i + 2] = mapper.writeValueAsBytes(value).length;
+                }
+                System.out.printf(ROW, row);
+            }
+        }
+    }
+}
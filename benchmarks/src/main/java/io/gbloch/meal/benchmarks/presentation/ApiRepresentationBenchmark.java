@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.presentation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.gbloch.meal.domain.vo.OrderStatus;
+import io.gbloch.meal.order.application.dto.create.CreateOrderCommand;
+import io.gbloch.meal.order.application.dto.create.CreateOrderResponse;
+import io.gbloch.meal.order.application.dto.create.OrderAddress;
+import io.gbloch.meal.order.application.dto.create.OrderItem;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderJsonCustomizer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization cost of the order API documents in each negotiated
+ * representation, with the reflective databind codecs and with the streaming ones of the order
+ * service. The payload sizes are printed by {@link ApiPayloadSizes}, outside of the JMH output.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiRepresentationBenchmark {
+
+    private static final BigDecimal PRICE = new BigDecimal("10.00");
+    private static final int ITEMS = 10;
+
+    @Param({ "json", "cbor", "smile" })
+    String format;
+
+    @Param({ "createOrderCommand", "createOrderResponse", "trackOrderResponse" })
+    String document;
+
+    @Param({ "databind", "streaming" })
+    String codecs;
+
+    private ObjectMapper mapper;
+    private Object value;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = mapper(format, codecs);
+        value = document(document);
+        payload = mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return mapper.readValue(payload, value.getClass());
+    }
+
+    static ObjectMapper mapper(String format, String codecs) {
+        ObjectMapper mapper = new ObjectMapper(
+            switch (format) {
+                case "json" -> new JsonFactory();
+                case "cbor" -> new CBORFactory();
+                case "smile" -> new SmileFactory();
+                default -> throw new IllegalArgumentException("Unknown format " + format);
+            }
+        );
+        if ("streaming".equals(codecs)) {
+            new OrderJsonCustomizer().customize(mapper);
+        }
+        return mapper;
+    }
+
+    static Object document(String document) {
+        return switch (document) {
+            case "createOrderCommand" -> createOrderCommand();
+            case "createOrderResponse" -> CreateOrderResponse
+                .builder()
+                .orderTrackingId(UUID.randomUUID())
+                .orderStatus(OrderStatus.PENDING)
+                .message("Order created successfully")
+                .build();
+            case "trackOrderResponse" -> TrackOrderResponse
+                .builder()
+                .orderTrackingId(UUID.randomUUID())
+                .orderStatus(OrderStatus.CANCELLED)
+                .errorMessages(List.of("Payment failed", "Restaurant closed"))
+                .build();
+            default -> throw new IllegalArgumentException("Unknown document " + document);
+        };
+    }
+
+    private static CreateOrderCommand createOrderCommand() {
+        List<OrderItem> items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(
+                OrderItem
+                    .builder()
+                    .productId(UUID.randomUUID())
+                    .quantity(1)
+                    .price(PRICE)
+                    .totalPrice(PRICE)
+                    .build()
+            );
+        }
+        return CreateOrderCommand
+            .builder()
+            .customerId(UUID.randomUUID())
+            .restaurantId(UUID.randomUUID())
+            .price(PRICE.multiply(BigDecimal.valueOf(ITEMS)))
+            .items(items)
+            .address(
+                OrderAddress
+                    .builder()
+                    .street("street")
+                    .city("city")
+                    .zipCode("12345")
+                    .country("country")
+                    .build()
+            )
+            .build();
+    }
+}
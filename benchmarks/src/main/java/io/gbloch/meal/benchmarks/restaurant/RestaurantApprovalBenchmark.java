@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.benchmarks.restaurant;
+
+import io.gbloch.meal.domain.vo.ActiveType;
+import io.gbloch.meal.domain.vo.AvailabilityType;
+import io.gbloch.meal.domain.vo.Money;
+import io.gbloch.meal.domain.vo.OrderId;
+import io.gbloch.meal.domain.vo.OrderStatus;
+import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.domain.vo.ProductLabel;
+import io.gbloch.meal.domain.vo.Quantity;
+import io.gbloch.meal.domain.vo.RestaurantId;
+import io.gbloch.meal.restaurant.domain.entity.OrderDetail;
+import io.gbloch.meal.restaurant.domain.entity.Product;
+import io.gbloch.meal.restaurant.domain.entity.Restaurant;
+import io.gbloch.meal.restaurant.domain.vo.ProductCatalog;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Restaurant approval with large menus: product matching through the {@link ProductCatalog}
+ * against the former nested scan of the restaurant products.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantApprovalBenchmark {
+
+    private static final Money PRICE = new Money(new BigDecimal("10.00"));
+
+    @Param({ "100", "1000", "10000" })
+    int menuSize;
+
+    @Param({ "10", "100" })
+    int orderedItems;
+
+    private List<Product> menuProducts;
+    private Restaurant menu;
+    private ProductId[] orderedProductIds;
+
+    @Setup
+    public void setUp() {
+        menuProducts = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            menuProducts.add(
+                Product
+                    .builder()
+                    .id(new ProductId(UUID.randomUUID()))
+                    .label(new ProductLabel("product-" + i))
+                    .price(PRICE)
+                    .availability(AvailabilityType.AVAILABLE)
+                    .build()
+            );
+        }
+        menu =
+            Restaurant
+                .builder()
+                .id(new RestaurantId(UUID.randomUUID()))
+                .activeType(ActiveType.ACTIVE)
+                .orderDetail(OrderDetail.builder().products(menuProducts).build())
+                .build();
+        // Spread the ordered products over the whole menu
+        orderedProductIds = new ProductId[orderedItems];
+        int step = Math.max(1, menuSize / orderedItems);
+        for (int i = 0; i < orderedItems; i++) {
+            orderedProductIds[i] = menuProducts.get((i * step) % menuSize).getId();
+        }
+        menu.getProductCatalog();
+    }
+
+    @Benchmark
+    public List<String> catalogLookup() {
+        Restaurant restaurant = orderedRestaurant();
+        restaurant.applyProductCatalog(menu.getProductCatalog());
+        return validate(restaurant);
+    }
+
+    @Benchmark
+    public List<String> nestedScan() {
+        Restaurant restaurant = orderedRestaurant();
+        for (Product product : restaurant.getOrderDetail().getProducts()) {
+            for (Product menuProduct : menuProducts) {
+                if (menuProduct.getId().equals(product.getId())) {
+                    product.updateNameAndAvailability(
+                        menuProduct.getLabel().label(),
+                        menuProduct.getPrice(),
+                        menuProduct.getAvailability()
+                    );
+                }
+            }
+        }
+        return validate(restaurant);
+    }
+
+    @Benchmark
+    public ProductCatalog catalogBuild() {
+        return ProductCatalog.of(menuProducts);
+    }
+
+    private Restaurant orderedRestaurant() {
+        List<Product> products = new ArrayList<>(orderedItems);
+        for (ProductId productId : orderedProductIds) {
+            products.add(Product.builder().id(productId).quantity(new Quantity(1)).build());
+        }
+        return Restaurant
+            .builder()
+            .id(menu.getId())
+            .orderDetail(
+                OrderDetail
+                    .builder()
+                    .orderId(new OrderId(UUID.randomUUID()))
+                    .orderStatus(OrderStatus.PAID)
+                    .totalAmount(PRICE.multiply(orderedItems))
+                    .products(products)
+                    .build()
+            )
+            .build();
+    }
+
+    private static List<String> validate(Restaurant restaurant) {
+        List<String> failureMessages = new ArrayList<>();
+        restaurant.validateOrder(failureMessages);
+        return failureMessages;
+    }
+}
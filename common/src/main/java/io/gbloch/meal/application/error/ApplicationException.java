@@ -36,4 +36,8 @@ public class ApplicationException extends RuntimeException {
     protected ApplicationException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    protected ApplicationException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.application.error;
+
+import io.gbloch.meal.core.StackTraces;
+import java.io.Serial;
+
+/**
+ * Rejection of a request for a resource that does not exist, answered with a 404.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class ResourceNotFoundException extends ApplicationException {
+
+    @Serial
+    private static final long serialVersionUID = -3385190724873412061L;
+
+    public ResourceNotFoundException(String message) {
+        // Expected rejection, the stack trace would only be overhead
+        super(message, StackTraces.enabled());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.core;
+
+/**
+ * Whether the expected business exceptions (validation, domain, not found and invalid request
+ * rejections) capture their stack trace.
+ * <p>
+ * They are thrown for every rejected request and their stack trace is never used, so they are
+ * stackless by default. Start the JVM with {@code -Dmeal.exceptions.stack-traces=true} to get
+ * them back, when debugging.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class StackTraces {
+
+    public static final String PROPERTY = "meal.exceptions.stack-traces";
+
+    // Constant, so that the JIT folds the check away
+    private static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private StackTraces() {}
+
+    public static boolean enabled() {
+        return ENABLED;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.core.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical lookups into a single call.
+ * <p>
+ * The first caller of a key runs the loader on its own thread, the callers arriving while it runs
+ * wait for its result instead of running the loader again. A successful result is then shared for
+ * the {@code ttl}, so that a burst of polls of the same key costs one query; a zero {@code ttl}
+ * only shares the result between in-flight callers. Failures are rethrown to every waiting caller
+ * and never shared afterwards.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+
+    public SingleFlight(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            return join(existing);
+        }
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        flight.complete(value);
+        if (ttlNanos > 0) {
+            CompletableFuture
+                .delayedExecutor(ttlNanos, TimeUnit.NANOSECONDS)
+                .execute(() -> flights.remove(key, flight));
+        } else {
+            flights.remove(key, flight);
+        }
+        return value;
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -20,7 +20,6 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Map;
-import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
@@ -71,7 +70,11 @@ public final class Validation {
      * @throws MissingMandatoryValueException if the input is blank
      */
     public static void notBlank(String field, String input) {
-        Validation.field(field, input).notBlank();
+        notNull(field, input);
+
+        if (input.isBlank()) {
+            throw MissingMandatoryValueException.forBlankValue(field);
+        }
     }
 
     /**
@@ -82,7 +85,11 @@ public final class Validation {
      * @throws MissingMandatoryValueException if the collection is null or empty
      */
     public static void notEmpty(String field, Collection<?> collection) {
-        field(field, collection).notEmpty();
+        notNull(field, collection);
+
+        if (collection.isEmpty()) {
+            throw MissingMandatoryValueException.forEmptyValue(field);
+        }
     }
 
     /**
@@ -100,6 +107,244 @@ public final class Validation {
         }
     }
 
+    /*
+     * Static checks: same semantics as the fluent validators, without allocating a validator,
+     * exceptions are only built on failure. To be used on hot paths such as value objects
+     * constructors.
+     */
+
+    /**
+     * Ensure that the input is at least of the given length
+     *
+     * @param field  name of the field to check (will be displayed in exception message)
+     * @param input  input to check
+     * @param length inclusive min length of the {@link String}
+     * @throws MissingMandatoryValueException if the expected length is strictly positive and the
+     *                                        input is null
+     * @throws StringTooShortException        if the input is shorter than min length
+     */
+    public static void minLength(String field, String input, int length) {
+        if (length <= 0 && input == null) {
+            return;
+        }
+
+        notNull(field, input);
+
+        if (input.length() < length) {
+            throw StringTooShortException
+                .builder()
+                .field(field)
+                .value(input)
+                .minLength(length)
+                .build();
+        }
+    }
+
+    /**
+     * Ensure that the input is not over the given length
+     *
+     * @param field  name of the field to check (will be displayed in exception message)
+     * @param input  input to check
+     * @param length inclusive max length of the {@link String}
+     * @throws StringTooLongException if the input is longer than the max length
+     */
+    public static void maxLength(String field, String input, int length) {
+        if (input == null) {
+            return;
+        }
+
+        if (input.length() > length) {
+            throw StringTooLongException
+                .builder()
+                .field(field)
+                .value(input)
+                .maxLength(length)
+                .build();
+        }
+    }
+
+    /**
+     * Ensure that the input is at least at min value
+     *
+     * @param field    name of the field to check (will be displayed in exception message)
+     * @param input    input to check
+     * @param minValue inclusive min value
+     * @throws NumberValueTooLowException if the input is under min
+     */
+    public static void min(String field, long input, long minValue) {
+        if (input < minValue) {
+            throw NumberValueTooLowException
+                .builder()
+                .field(field)
+                .minValue(String.valueOf(minValue))
+                .value(String.valueOf(input))
+                .build();
+        }
+    }
+
+    /**
+     * Ensure that the input is at most at max value
+     *
+     * @param field    name of the field to check (will be displayed in exception message)
+     * @param input    input to check
+     * @param maxValue inclusive max value
+     * @throws NumberValueTooHighException if the input is over max
+     */
+    public static void max(String field, long input, long maxValue) {
+        if (input > maxValue) {
+            throw NumberValueTooHighException
+                .builder()
+                .field(field)
+                .maxValue(String.valueOf(maxValue))
+                .value(String.valueOf(input))
+                .build();
+        }
+    }
+
+    /**
+     * Ensure that the input is at least at min value
+     *
+     * @param field    name of the field to check (will be displayed in exception message)
+     * @param input    input to check
+     * @param minValue inclusive min value
+     * @throws MissingMandatoryValueException if the input or min value is null
+     * @throws NumberValueTooLowException     if the input is under the min value
+     */
+    public static void min(String field, BigDecimal input, BigDecimal minValue) {
+        notNull(field, input);
+        notNull("minValue", minValue);
+
+        if (input.compareTo(minValue) < 0) {
+            throw bigDecimalTooLow(field, input, minValue);
+        }
+    }
+
+    /**
+     * Ensure that the input is over the given floor
+     *
+     * @param field name of the field to check (will be displayed in exception message)
+     * @param input input to check
+     * @param floor exclusive floor value
+     * @throws MissingMandatoryValueException if the input or floor is null
+     * @throws NumberValueTooLowException     if the input is under floor
+     */
+    public static void over(String field, BigDecimal input, BigDecimal floor) {
+        notNull(field, input);
+        notNull("floor", floor);
+
+        if (input.compareTo(floor) <= 0) {
+            throw bigDecimalTooLow(field, input, floor);
+        }
+    }
+
+    /**
+     * Ensure that the input is at most at max value
+     *
+     * @param field    name of the field to check (will be displayed in exception message)
+     * @param input    input to check
+     * @param maxValue inclusive max value
+     * @throws MissingMandatoryValueException if the input or max value is null
+     * @throws NumberValueTooHighException    if the input is over max
+     */
+    public static void max(String field, BigDecimal input, BigDecimal maxValue) {
+        notNull(field, input);
+        notNull("maxValue", maxValue);
+
+        if (input.compareTo(maxValue) > 0) {
+            throw bigDecimalTooHigh(field, input, maxValue);
+        }
+    }
+
+    /**
+     * Ensure that the input is under the given ceil
+     *
+     * @param field name of the field to check (will be displayed in exception message)
+     * @param input input to check
+     * @param ceil  exclusive ceil value
+     * @throws MissingMandatoryValueException if the input or ceil is null
+     * @throws NumberValueTooHighException    if the input is over ceil
+     */
+    public static void under(String field, BigDecimal input, BigDecimal ceil) {
+        notNull(field, input);
+        notNull("ceil", ceil);
+
+        if (input.compareTo(ceil) >= 0) {
+            throw bigDecimalTooHigh(field, input, ceil);
+        }
+    }
+
+    private static NumberValueTooLowException bigDecimalTooLow(
+        String field,
+        BigDecimal input,
+        BigDecimal floor
+    ) {
+        return NumberValueTooLowException
+            .builder()
+            .field(field)
+            .minValue(String.valueOf(floor))
+            .value(input.toPlainString())
+            .build();
+    }
+
+    private static NumberValueTooHighException bigDecimalTooHigh(
+        String field,
+        BigDecimal input,
+        BigDecimal ceil
+    ) {
+        return NumberValueTooHighException
+            .builder()
+            .field(field)
+            .maxValue(String.valueOf(ceil))
+            .value(input.toPlainString())
+            .build();
+    }
+
+    /**
+     * Ensure that the size of the input is not over the given size
+     *
+     * @param field   name of the field to check (will be displayed in exception message)
+     * @param input   input to check
+     * @param maxSize inclusive max size of the {@link Collection}
+     * @throws MissingMandatoryValueException if the expected size is strictly positive and the
+     *                                        input is null
+     * @throws TooManyElementsException       if the size of the input is over the max size
+     */
+    public static void maxSize(String field, Collection<?> input, int maxSize) {
+        if (maxSize <= 0 && input == null) {
+            return;
+        }
+
+        notNull(field, input);
+
+        if (input.size() > maxSize) {
+            throw TooManyElementsException
+                .builder()
+                .field(field)
+                .maxSize(maxSize)
+                .size(input.size())
+                .build();
+        }
+    }
+
+    /**
+     * Ensure that no element in the input is null
+     *
+     * @param field name of the field to check (will be displayed in exception message)
+     * @param input input to check
+     * @throws NullElementInCollectionException if an element is null
+     */
+    public static void noNullElement(String field, Collection<?> input) {
+        if (input == null) {
+            return;
+        }
+
+        for (Object element : input) {
+            if (element == null) {
+                throw new NullElementInCollectionException(field);
+            }
+        }
+    }
+
     /**
      * Create a fluent validator for {@link String}
      *
@@ -312,11 +557,7 @@ public final class Validation {
          * @throws MissingMandatoryValueException if the value is blank
          */
         public StringValidator notBlank() {
-            notNull();
-
-            if (value.isBlank()) {
-                throw MissingMandatoryValueException.forBlankValue(field);
-            }
+            Validation.notBlank(field, value);
 
             return this;
         }
@@ -331,20 +572,7 @@ public final class Validation {
          * @throws StringTooShortException        if the value is shorter than min length
          */
         public StringValidator minLength(int length) {
-            if (length <= 0 && value == null) {
-                return this;
-            }
-
-            notNull();
-
-            if (value.length() < length) {
-                throw StringTooShortException
-                    .builder()
-                    .field(field)
-                    .value(value)
-                    .minLength(length)
-                    .build();
-            }
+            Validation.minLength(field, value, length);
 
             return this;
         }
@@ -357,18 +585,7 @@ public final class Validation {
          * @throws StringTooLongException if the value is longer than the max length
          */
         public StringValidator maxLength(int length) {
-            if (value == null) {
-                return this;
-            }
-
-            if (value.length() > length) {
-                throw StringTooLongException
-                    .builder()
-                    .field(field)
-                    .value(value)
-                    .maxLength(length)
-                    .build();
-            }
+            Validation.maxLength(field, value, length);
 
             return this;
         }
@@ -408,15 +625,7 @@ public final class Validation {
          */
         public IntegerValidator min(int minValue) {
             notNull(field, value);
-
-            if (value < minValue) {
-                throw NumberValueTooLowException
-                    .builder()
-                    .field(field)
-                    .minValue(String.valueOf(minValue))
-                    .value(String.valueOf(value))
-                    .build();
-            }
+            Validation.min(field, value, minValue);
 
             return this;
         }
@@ -431,15 +640,7 @@ public final class Validation {
          */
         public IntegerValidator max(int maxValue) {
             notNull(field, value);
-
-            if (value > maxValue) {
-                throw NumberValueTooHighException
-                    .builder()
-                    .field(field)
-                    .maxValue(String.valueOf(maxValue))
-                    .value(String.valueOf(value))
-                    .build();
-            }
+            Validation.max(field, value, maxValue);
 
             return this;
         }
@@ -479,15 +680,7 @@ public final class Validation {
          */
         public LongValidator min(long minValue) {
             notNull(field, value);
-
-            if (value < minValue) {
-                throw NumberValueTooLowException
-                    .builder()
-                    .field(field)
-                    .minValue(String.valueOf(minValue))
-                    .value(String.valueOf(value))
-                    .build();
-            }
+            Validation.min(field, value, minValue);
 
             return this;
         }
@@ -502,15 +695,7 @@ public final class Validation {
          */
         public LongValidator max(long maxValue) {
             notNull(field, value);
-
-            if (value > maxValue) {
-                throw NumberValueTooHighException
-                    .builder()
-                    .field(field)
-                    .maxValue(String.valueOf(maxValue))
-                    .value(String.valueOf(value))
-                    .build();
-            }
+            Validation.max(field, value, maxValue);
 
             return this;
         }
@@ -789,7 +974,7 @@ public final class Validation {
          * @throws NumberValueTooLowException     if the input value is negative
          */
         public BigDecimalValidator positive() {
-            return min(0);
+            return min(BigDecimal.ZERO);
         }
 
         /**
@@ -800,7 +985,7 @@ public final class Validation {
          * @throws NumberValueTooLowException     if the input value is negative
          */
         public BigDecimalValidator strictlyPositive() {
-            return over(0);
+            return over(BigDecimal.ZERO);
         }
 
         /**
@@ -812,7 +997,7 @@ public final class Validation {
          * @throws NumberValueTooLowException     if the input value is under the min value
          */
         public BigDecimalValidator min(long minValue) {
-            return min(new BigDecimal(minValue));
+            return min(BigDecimal.valueOf(minValue));
         }
 
         /**
@@ -824,12 +1009,7 @@ public final class Validation {
          * @throws NumberValueTooLowException     if the input value is under the min value
          */
         public BigDecimalValidator min(BigDecimal minValue) {
-            notNull();
-            Validation.notNull("minValue", minValue);
-
-            if (value.compareTo(minValue) < 0) {
-                throw tooLow(minValue);
-            }
+            Validation.min(field, value, minValue);
 
             return this;
         }
@@ -843,7 +1023,7 @@ public final class Validation {
          * @throws NumberValueTooLowException     if the value is under floor
          */
         public BigDecimalValidator over(long floor) {
-            return over(new BigDecimal(floor));
+            return over(BigDecimal.valueOf(floor));
         }
 
         /**
@@ -855,25 +1035,11 @@ public final class Validation {
          * @throws NumberValueTooLowException     if the value is under floor
          */
         public BigDecimalValidator over(BigDecimal floor) {
-            notNull();
-            Validation.notNull("floor", floor);
-
-            if (value.compareTo(floor) <= 0) {
-                throw tooLow(floor);
-            }
+            Validation.over(field, value, floor);
 
             return this;
         }
 
-        private NumberValueTooLowException tooLow(BigDecimal floor) {
-            return NumberValueTooLowException
-                .builder()
-                .field(field)
-                .minValue(String.valueOf(floor))
-                .value(value.toPlainString())
-                .build();
-        }
-
         /**
          * Ensure that the input value is at most at max value
          *
@@ -883,7 +1049,7 @@ public final class Validation {
          * @throws NumberValueTooHighException    if the input value is over max
          */
         public BigDecimalValidator max(long maxValue) {
-            return max(new BigDecimal(maxValue));
+            return max(BigDecimal.valueOf(maxValue));
         }
 
         /**
@@ -895,12 +1061,7 @@ public final class Validation {
          * @throws NumberValueTooHighException    if the input value is over max
          */
         public BigDecimalValidator max(BigDecimal maxValue) {
-            notNull();
-            Validation.notNull("maxValue", maxValue);
-
-            if (value.compareTo(maxValue) > 0) {
-                throw tooHigh(maxValue);
-            }
+            Validation.max(field, value, maxValue);
 
             return this;
         }
@@ -914,7 +1075,7 @@ public final class Validation {
          * @throws NumberValueTooHighException    if the value is under floor
          */
         public BigDecimalValidator under(long ceil) {
-            return under(new BigDecimal(ceil));
+            return under(BigDecimal.valueOf(ceil));
         }
 
         /**
@@ -926,25 +1087,11 @@ public final class Validation {
          * @throws NumberValueTooHighException    if the value is under floor
          */
         public BigDecimalValidator under(BigDecimal ceil) {
-            notNull();
-            Validation.notNull("ceil", ceil);
-
-            if (value.compareTo(ceil) >= 0) {
-                throw tooHigh(ceil);
-            }
+            Validation.under(field, value, ceil);
 
             return this;
         }
 
-        private NumberValueTooHighException tooHigh(BigDecimal ceil) {
-            return NumberValueTooHighException
-                .builder()
-                .field(field)
-                .maxValue(String.valueOf(ceil))
-                .value(value.toPlainString())
-                .build();
-        }
-
         /**
          * Ensure that the input value is not null
          *
@@ -990,11 +1137,7 @@ public final class Validation {
          * @throws MissingMandatoryValueException if the value is null or empty
          */
         public CollectionValidator<T> notEmpty() {
-            notNull();
-
-            if (value.isEmpty()) {
-                throw MissingMandatoryValueException.forEmptyValue(field);
-            }
+            Validation.notEmpty(field, value);
 
             return this;
         }
@@ -1009,20 +1152,7 @@ public final class Validation {
          * @throws TooManyElementsException       if the size of value is over the max size
          */
         public CollectionValidator<T> maxSize(int maxSize) {
-            if (maxSize <= 0 && value == null) {
-                return this;
-            }
-
-            notNull();
-
-            if (value.size() > maxSize) {
-                throw TooManyElementsException
-                    .builder()
-                    .field(field)
-                    .maxSize(maxSize)
-                    .size(value.size())
-                    .build();
-            }
+            Validation.maxSize(field, value, maxSize);
 
             return this;
         }
@@ -1034,13 +1164,7 @@ public final class Validation {
          * @throws NullElementInCollectionException if an element is null
          */
         public CollectionValidator<T> noNullElement() {
-            if (value == null) {
-                return this;
-            }
-
-            if (value.stream().anyMatch(Objects::isNull)) {
-                throw new NullElementInCollectionException(field);
-            }
+            Validation.noNullElement(field, value);
 
             return this;
         }
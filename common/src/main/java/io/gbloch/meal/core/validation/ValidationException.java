@@ -16,6 +16,7 @@
 
 package io.gbloch.meal.core.validation;
 
+import io.gbloch.meal.core.StackTraces;
 import java.io.Serial;
 import java.util.Map;
 
@@ -33,7 +34,7 @@ public abstract class ValidationException extends RuntimeException {
     private final String field;
 
     protected ValidationException(String field, String message) {
-        super(message);
+        super(message, null, true, StackTraces.enabled());
         this.field = field;
     }
 
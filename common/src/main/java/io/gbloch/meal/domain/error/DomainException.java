@@ -16,6 +16,7 @@
 
 package io.gbloch.meal.domain.error;
 
+import io.gbloch.meal.core.StackTraces;
 import java.io.Serial;
 
 /**
@@ -30,7 +31,8 @@ public class DomainException extends RuntimeException {
     private static final long serialVersionUID = -912914024961756387L;
 
     public DomainException(String message) {
-        super(message);
+        // Expected rejection, the stack trace would only be overhead
+        super(message, null, true, StackTraces.enabled());
     }
 
     public DomainException(String message, Throwable cause) {
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.domain.event;
+
+import java.time.Instant;
+
+/**
+ * Millisecond clock reusing the same {@link Instant} for all the reads of a given millisecond.
+ * <p>
+ * {@link Instant#now()} reads the precise system clock and allocates on every call, whereas event
+ * timestamps only need a millisecond precision.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class CachedClock {
+
+    private static volatile Instant current = Instant.ofEpochMilli(System.currentTimeMillis());
+
+    private CachedClock() {}
+
+    static Instant now() {
+        Instant instant = current;
+        long millis = System.currentTimeMillis();
+        if (instant.toEpochMilli() != millis) {
+            // Racing writers publish equivalent instants, the last one wins
+            instant = Instant.ofEpochMilli(millis);
+            current = instant;
+        }
+        return instant;
+    }
+}
@@ -34,6 +34,10 @@ import lombok.Setter;
 @Getter
 public final class EventHeader {
 
+    private static final EventHeaderFactory DEFAULT_FACTORY = EventHeaderFactory.forSource(
+        EventSourceType.ORDER
+    );
+
     private final UUID eventId;
     private final UUID correlationId;
     private final UUID causationId;
@@ -42,62 +46,29 @@ public final class EventHeader {
     private final Instant timestamp;
 
     public static EventHeader of(UUID correlationId, UUID causationId) {
-        return EventHeader
-            .builder()
-            .eventId(UUID.randomUUID())
-            .correlationId(correlationId)
-            .causationId(causationId)
-            .source(EventSourceType.ORDER)
-            .version(1)
-            .timestamp(Instant.now())
-            .build();
+        return DEFAULT_FACTORY.create(correlationId, causationId);
     }
 
     public static EventHeader of(UUID correlationId) {
-        return EventHeader
-            .builder()
-            .eventId(UUID.randomUUID())
-            .correlationId(correlationId)
-            .causationId(correlationId)
-            .source(EventSourceType.ORDER)
-            .version(1)
-            .timestamp(Instant.now())
-            .build();
+        return DEFAULT_FACTORY.create(correlationId, correlationId);
     }
 
     public static EventHeader of() {
-        return EventHeader
-            .builder()
-            .eventId(UUID.randomUUID())
-            .correlationId(UUID.randomUUID())
-            .causationId(UUID.randomUUID())
-            .source(EventSourceType.ORDER)
-            .version(1)
-            .timestamp(Instant.now())
-            .build();
+        return DEFAULT_FACTORY.create();
     }
 
     public static EventHeader of(UUID eventId, UUID correlationId, UUID causationId) {
-        return EventHeader
-            .builder()
-            .eventId(eventId)
-            .correlationId(correlationId)
-            .causationId(causationId)
-            .source(EventSourceType.ORDER)
-            .version(1)
-            .timestamp(Instant.now())
-            .build();
+        return new EventHeader(
+            eventId,
+            correlationId,
+            causationId,
+            1,
+            EventSourceType.ORDER,
+            CachedClock.now()
+        );
     }
 
     public static EventHeader of(Instant timestamp) {
-        return EventHeader
-            .builder()
-            .eventId(UUID.randomUUID())
-            .correlationId(UUID.randomUUID())
-            .causationId(null)
-            .source(EventSourceType.ORDER)
-            .version(1)
-            .timestamp(timestamp)
-            .build();
+        return DEFAULT_FACTORY.create(timestamp);
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.domain.event;
+
+import io.gbloch.meal.domain.vo.IdGenerator;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Creates the {@link EventHeader}s of the events published by a given {@link EventSourceType}.
+ * <p>
+ * Headers are built straight from the constructor, with ids from the {@link IdGenerator} and
+ * timestamps from the {@link CachedClock}. A root event is its own correlation, a follow-up event
+ * reuses the ids of its cause, so only the event id is generated.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class EventHeaderFactory {
+
+    private static final int VERSION = 1;
+    private static final Map<EventSourceType, EventHeaderFactory> FACTORIES = new EnumMap<>(
+        EventSourceType.class
+    );
+
+    static {
+        for (EventSourceType source : EventSourceType.values()) {
+            FACTORIES.put(source, new EventHeaderFactory(source));
+        }
+    }
+
+    private final EventSourceType source;
+
+    private EventHeaderFactory(EventSourceType source) {
+        this.source = source;
+    }
+
+    public static EventHeaderFactory forSource(EventSourceType source) {
+        return FACTORIES.get(source);
+    }
+
+    public EventHeader create() {
+        UUID eventId = IdGenerator.next();
+        return new EventHeader(eventId, eventId, null, VERSION, source, CachedClock.now());
+    }
+
+    public EventHeader create(Instant timestamp) {
+        UUID eventId = IdGenerator.next();
+        return new EventHeader(eventId, eventId, null, VERSION, source, timestamp);
+    }
+
+    public EventHeader create(UUID correlationId, UUID causationId) {
+        return new EventHeader(
+            IdGenerator.next(),
+            correlationId,
+            causationId,
+            VERSION,
+            source,
+            CachedClock.now()
+        );
+    }
+
+    public EventHeader causedBy(EventHeader cause) {
+        return create(cause.getCorrelationId(), cause.getEventId());
+    }
+
+    public EventSourceType getSource() {
+        return source;
+    }
+}
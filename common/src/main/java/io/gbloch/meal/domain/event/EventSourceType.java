@@ -26,4 +26,5 @@ public enum EventSourceType {
     ORDER,
     CUSTOMER,
     RESTAURANT,
+    PAYMENT,
 }
@@ -33,6 +33,6 @@ public final class CustomerId extends IdBase<UUID> {
     }
 
     public CustomerId() {
-        super(UUID.randomUUID());
+        super(IdGenerator.next());
     }
 }
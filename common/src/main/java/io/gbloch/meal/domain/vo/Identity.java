@@ -28,8 +28,11 @@ import io.gbloch.meal.core.validation.Validation;
 @ValueObject
 public record Identity(String userName, String firstName, String lastName) {
     public Identity {
-        Validation.field("userName", userName).notBlank().maxLength(255);
-        Validation.field("firstName", firstName).notBlank().maxLength(255);
-        Validation.field("lastName", lastName).notBlank().maxLength(255);
+        Validation.notBlank("userName", userName);
+        Validation.maxLength("userName", userName, 255);
+        Validation.notBlank("firstName", firstName);
+        Validation.maxLength("firstName", firstName, 255);
+        Validation.notBlank("lastName", lastName);
+        Validation.maxLength("lastName", lastName, 255);
     }
 }
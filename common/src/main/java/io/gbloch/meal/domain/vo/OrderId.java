@@ -31,6 +31,6 @@ public final class OrderId extends IdBase<UUID> {
     }
 
     public OrderId() {
-        super(UUID.randomUUID());
+        super(IdGenerator.next());
     }
 }
@@ -31,6 +31,6 @@ public final class ProductId extends IdBase<UUID> {
     }
 
     public ProductId() {
-        super(UUID.randomUUID());
+        super(IdGenerator.next());
     }
 }
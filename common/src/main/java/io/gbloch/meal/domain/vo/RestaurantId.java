@@ -31,6 +31,6 @@ public final class RestaurantId extends IdBase<UUID> {
     }
 
     public RestaurantId() {
-        super(UUID.randomUUID());
+        super(IdGenerator.next());
     }
 }
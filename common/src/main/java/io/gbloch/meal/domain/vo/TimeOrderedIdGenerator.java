@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.domain.vo;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates time-ordered UUIDv7 identifiers (RFC 9562).
+ * <p>
+ * The 48 most significant bits hold the Unix epoch in milliseconds, so that new identifiers are
+ * appended to the right of the primary key indexes instead of being scattered across them. The
+ * 12 bits following the version hold a per-thread counter, randomly seeded every millisecond, which
+ * keeps the identifiers generated by a thread strictly increasing. The state is thread-local, so no
+ * lock nor CAS is involved, and the remaining 62 bits come from {@link ThreadLocalRandom} instead
+ * of the {@code SecureRandom} behind {@link UUID#randomUUID()}.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int MAX_SEQUENCE = 0xFFF;
+    // Seed in the lower half to leave room for the identifiers of the same millisecond
+    private static final int SEQUENCE_SEED_BOUND = 0x800;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    @Override
+    public UUID generate() {
+        State state = STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = System.currentTimeMillis();
+        if (millis > state.millis) {
+            state.millis = millis;
+            state.sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+        } else if (++state.sequence > MAX_SEQUENCE) {
+            // Counter exhausted or clock moved backwards: borrow the next millisecond
+            state.millis++;
+            state.sequence = 0;
+        }
+        long mostSignificantBits = (state.millis << 16) | VERSION | state.sequence;
+        long leastSignificantBits = (random.nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static final class State {
+
+        private long millis;
+        private int sequence;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.concurrency;
+
+import io.gbloch.meal.core.StackTraces;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+
+/**
+ * Rejection of a call over its adaptive concurrency limit. A {@link BulkheadException}, so that
+ * it is reported like the rejections of the fault tolerance bulkheads.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class ConcurrencyLimitExceededException extends BulkheadException {
+
+    ConcurrencyLimitExceededException(String name, double limit) {
+        super("Concurrency limit of " + (long) limit + " reached for " + name);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // Thrown for every shed request, stackless like the business exceptions
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
+}
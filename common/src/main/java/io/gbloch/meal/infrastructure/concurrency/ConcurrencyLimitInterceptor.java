@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.concurrency;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Applies the {@link ConcurrencyLimited} limits. It runs before the transaction interceptor, so
+ * that a rejected call never opens a transaction nor takes a connection.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ConcurrencyLimited("")
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+final class ConcurrencyLimitInterceptor {
+
+    private final ConcurrencyLimits limits;
+    private final boolean enabled;
+
+    ConcurrencyLimitInterceptor(
+        ConcurrencyLimits limits,
+        @ConfigProperty(
+            name = "meal.concurrency.limit.enabled",
+            defaultValue = "true"
+        ) boolean enabled
+    ) {
+        this.limits = limits;
+        this.enabled = enabled;
+    }
+
+    @AroundInvoke
+    Object limit(InvocationContext context) throws Exception {
+        if (!enabled) {
+            return context.proceed();
+        }
+        String name = context.getInterceptorBinding(ConcurrencyLimited.class).value();
+        ConcurrencyLimits.Limit limit = limits.get(name);
+        GradientConcurrencyLimit gradient = limit.gradient();
+        if (!gradient.tryAcquire()) {
+            limit.rejected().increment();
+            throw new ConcurrencyLimitExceededException(name, gradient.limit());
+        }
+        long start = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            gradient.release(start, System.nanoTime());
+        }
+    }
+}
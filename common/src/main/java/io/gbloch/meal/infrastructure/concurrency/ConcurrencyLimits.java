@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * The adaptive concurrency limits of the service, by name, with their gauges and rejection
+ * counter.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+final class ConcurrencyLimits {
+
+    private final MeterRegistry registry;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final ConcurrentMap<String, Limit> limits = new ConcurrentHashMap<>();
+
+    ConcurrencyLimits(
+        MeterRegistry registry,
+        @ConfigProperty(
+            name = "meal.concurrency.limit.initial",
+            defaultValue = "20"
+        ) int initialLimit,
+        @ConfigProperty(name = "meal.concurrency.limit.min", defaultValue = "4") int minLimit,
+        @ConfigProperty(name = "meal.concurrency.limit.max", defaultValue = "200") int maxLimit
+    ) {
+        this.registry = registry;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    Limit get(String name) {
+        return limits.computeIfAbsent(name, this::create);
+    }
+
+    private Limit create(String name) {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(
+            initialLimit,
+            minLimit,
+            maxLimit
+        );
+        Gauge
+            .builder("meal.concurrency.limit", limit, GradientConcurrencyLimit::limit)
+            .description("Current adaptive concurrency limit")
+            .tag("name", name)
+            .register(registry);
+        Gauge
+            .builder("meal.concurrency.inflight", limit, GradientConcurrencyLimit::inflight)
+            .description("Calls in flight under the concurrency limit")
+            .tag("name", name)
+            .register(registry);
+        Gauge
+            .builder("meal.concurrency.queued", limit, GradientConcurrencyLimit::queued)
+            .description("Estimated calls in flight waiting downstream")
+            .tag("name", name)
+            .register(registry);
+        Counter rejected = Counter
+            .builder("meal.concurrency.rejected")
+            .description("Calls rejected over the concurrency limit")
+            .tag("name", name)
+            .register(registry);
+        return new Limit(limit, rejected);
+    }
+
+    /**
+     * A named limit with its rejection counter, registered once with the limit.
+     */
+    record Limit(GradientConcurrencyLimit gradient, Counter rejected) {}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit adapted to the measured latency, in the manner of the gradient limiters.
+ * <p>
+ * The lowest latency seen stands for the latency without load. The latencies are averaged over
+ * windows of a few no-load latencies, so that the limit moves no faster than the latency responds
+ * to it. At the end of a window, while the average stays within the tolerance of the no-load
+ * latency the limit grows by about its square root, beyond it the limit shrinks in proportion,
+ * down to half of it. When the database slows down, the calls over the limit are rejected at once
+ * instead of piling up on the worker and connection pools. The limit only grows when at least half
+ * of it is in use, so that a lightly loaded service does not build up an unbounded limit.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class GradientConcurrencyLimit {
+
+    // Weight of each new limit in the smoothed one
+    private static final double SMOOTHING = 0.2;
+    // Latency increase tolerated before the limit shrinks
+    private static final double TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    // A window spans at least this many samples and no-load latencies
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final int MIN_WINDOW_RTTS = 2;
+    // Windows after which a higher no-load latency may be adopted
+    private static final int BASELINE_WINDOWS = 100;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    // Virtual threads must not pin their carrier on a contended monitor
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile double baselineRtt = Double.MAX_VALUE;
+    private volatile double lastRtt;
+    private double candidateBaselineRtt = Double.MAX_VALUE;
+    private int baselineWindows;
+    private long windowStart;
+    private double windowRttSum;
+    private int windowSamples;
+    private int windowMaxInflight;
+
+    GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long startNanos, long endNanos) {
+        int inflightAtRelease = inflight.getAndDecrement();
+        lock.lock();
+        try {
+            sample(startNanos, endNanos, inflightAtRelease);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sample(long startNanos, long endNanos, int inflightAtRelease) {
+        double rtt = Math.max(endNanos - startNanos, 1);
+        baselineRtt = Math.min(baselineRtt, rtt);
+        candidateBaselineRtt = Math.min(candidateBaselineRtt, rtt);
+        if (windowSamples == 0) {
+            windowStart = startNanos;
+        }
+        windowRttSum += rtt;
+        windowSamples++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtRelease);
+        if (
+            windowSamples < MIN_WINDOW_SAMPLES ||
+            endNanos - windowStart < MIN_WINDOW_RTTS * baselineRtt
+        ) {
+            return;
+        }
+        lastRtt = windowRttSum / windowSamples;
+        update(lastRtt, windowMaxInflight);
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+        if (++baselineWindows == BASELINE_WINDOWS) {
+            // Even the minimum limit sees the higher latency: the no-load latency itself rose. The
+            // smoothed limit only nears the minimum, so its whole part is compared
+            if (limit() <= minLimit) {
+                baselineRtt = candidateBaselineRtt;
+            }
+            candidateBaselineRtt = Double.MAX_VALUE;
+            baselineWindows = 0;
+        }
+    }
+
+    private void update(double rtt, int maxInflight) {
+        double current = limit;
+        if (maxInflight < current / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * baselineRtt / rtt));
+        double target = current * gradient + Math.sqrt(current);
+        double smoothed = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+
+    double limit() {
+        return Math.floor(limit);
+    }
+
+    double inflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Estimated number of calls waiting downstream, mostly for a database connection or lock: the
+     * share of the latency above the no-load latency, applied to the calls in flight.
+     */
+    double queued() {
+        double rtt = lastRtt;
+        return rtt == 0 ? 0 : Math.max(0, inflight.get() * (1 - baselineRtt / rtt));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Reports virtual threads pinned to their carrier while running blocking resources.
+ *
+ * <p>Listens to the {@code jdk.VirtualThreadPinned} JFR event, which the JDK emits when a virtual
+ * thread parks inside a {@code synchronized} block or a native frame for longer than the
+ * threshold. The pinning frame is attributed to the JDBC driver, the Narayana transaction manager
+ * or the Agroal pool, so that {@code meal.virtual-threads.pinned} tells which blocking path keeps
+ * carriers busy. Disabled by default; on a JDK without virtual threads the event never fires.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@Slf4j
+public final class VirtualThreadPinningDetector {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_METRIC = "meal.virtual-threads.pinned";
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningDetector(
+        MeterRegistry registry,
+        @ConfigProperty(
+            name = "meal.virtual-threads.pinning-detector.enabled",
+            defaultValue = "false"
+        ) boolean enabled,
+        @ConfigProperty(
+            name = "meal.virtual-threads.pinning-detector.threshold",
+            defaultValue = "PT0.02S"
+        ) Duration threshold
+    ) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning detector started with a threshold of {}", threshold);
+    }
+
+    void onPinned(RecordedEvent event) {
+        PinningSource source = PinningSource.of(event.getStackTrace());
+        registry.counter(PINNED_METRIC, "source", source.tag()).increment();
+        log.warn(
+            "Virtual thread [{}] pinned for {} ms in {}: {}",
+            event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+            event.getDuration().toMillis(),
+            source.tag(),
+            PinningSource.topFrame(event.getStackTrace())
+        );
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Blocking paths a pinning event is attributed to, matched on the class of its stack frames.
+     */
+    enum PinningSource {
+        JDBC("jdbc", "org.postgresql."),
+        NARAYANA("narayana", "com.arjuna.", "io.narayana.", "io.quarkus.narayana."),
+        POOL("pool", "io.agroal."),
+        OTHER("other");
+
+        private final String tag;
+        private final List<String> packages;
+
+        PinningSource(String tag, String... packages) {
+            this.tag = tag;
+            this.packages = List.of(packages);
+        }
+
+        String tag() {
+            return tag;
+        }
+
+        static PinningSource of(RecordedStackTrace stackTrace) {
+            if (stackTrace == null) {
+                return OTHER;
+            }
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frame.getMethod() == null) {
+                    continue;
+                }
+                String className = frame.getMethod().getType().getName();
+                for (PinningSource source : values()) {
+                    if (source.matches(className)) {
+                        return source;
+                    }
+                }
+            }
+            return OTHER;
+        }
+
+        static String topFrame(RecordedStackTrace stackTrace) {
+            if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+                return "no stack trace";
+            }
+            RecordedFrame frame = stackTrace.getFrames().get(0);
+            if (frame.getMethod() == null) {
+                return "native frame";
+            }
+            return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+        }
+
+        private boolean matches(String className) {
+            for (String prefix : packages) {
+                if (className.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.datasource;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes connection-pool sizing guidance as gauges.
+ *
+ * <p>Once the resources run on virtual threads, request concurrency is no longer capped by the
+ * worker pool and the JDBC pool becomes the limit. {@code meal.datasource.pool.utilization} close
+ * to 1 with a non-zero {@code meal.datasource.pool.awaiting} means requests queue for a
+ * connection; {@code meal.datasource.pool.recommended-max} is the observed demand (active plus
+ * awaiting) with 25% headroom, to be checked against the database connection limit before
+ * raising {@code quarkus.datasource.jdbc.max-size}. Requires
+ * {@code quarkus.datasource.metrics.enabled=true}.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public final class ConnectionPoolMetrics {
+
+    static final double HEADROOM = 1.25;
+
+    private final AgroalDataSource dataSource;
+    private final MeterRegistry registry;
+
+    void onStart(@Observes StartupEvent event) {
+        Gauge
+            .builder("meal.datasource.pool.max", this, ConnectionPoolMetrics::maxSize)
+            .description("Configured maximum size of the connection pool")
+            .register(registry);
+        Gauge
+            .builder("meal.datasource.pool.awaiting", this, ConnectionPoolMetrics::awaiting)
+            .description("Threads waiting for a connection")
+            .register(registry);
+        Gauge
+            .builder("meal.datasource.pool.utilization", this, ConnectionPoolMetrics::utilization)
+            .description("Active connections over the maximum pool size")
+            .register(registry);
+        Gauge
+            .builder(
+                "meal.datasource.pool.recommended-max",
+                this,
+                ConnectionPoolMetrics::recommendedMaxSize
+            )
+            .description("Observed connection demand with headroom")
+            .register(registry);
+    }
+
+    double maxSize() {
+        return dataSource.getConfiguration().connectionPoolConfiguration().maxSize();
+    }
+
+    double awaiting() {
+        return metrics().awaitingCount();
+    }
+
+    double utilization() {
+        double maxSize = maxSize();
+        return maxSize == 0 ? 0 : metrics().activeCount() / maxSize;
+    }
+
+    double recommendedMaxSize() {
+        AgroalDataSourceMetrics metrics = metrics();
+        long demand = Math.max(
+            metrics.maxUsedCount(),
+            metrics.activeCount() + metrics.awaitingCount()
+        );
+        return Math.ceil(demand * HEADROOM);
+    }
+
+    private AgroalDataSourceMetrics metrics() {
+        return dataSource.getMetrics();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.gbloch.meal.presentation.adapter.primary.ErrorResponse;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Native-image reflection registration shared by every service.
+ *
+ * <p>Outbox payloads are {@link JsonNode} trees serialized by the Debezium outbox extension, error
+ * bodies are wrapped in a {@code Response}, and the embedded Debezium engine instantiates its
+ * connector, offset store and converters from class names found in its configuration.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@RegisterForReflection(
+    targets = {
+        JsonNode.class,
+        ObjectNode.class,
+        ArrayNode.class,
+        TextNode.class,
+        IntNode.class,
+        LongNode.class,
+        DoubleNode.class,
+        DecimalNode.class,
+        BigIntegerNode.class,
+        BooleanNode.class,
+        NullNode.class,
+        ErrorResponse.class
+    },
+    classNames = {
+        "io.debezium.connector.postgresql.PostgresConnector",
+        "io.debezium.connector.postgresql.PostgresConnectorTask",
+        "io.debezium.relational.history.FileDatabaseHistory",
+        "org.apache.kafka.connect.storage.FileOffsetBackingStore",
+        "org.apache.kafka.connect.json.JsonConverter",
+        "org.apache.kafka.connect.storage.StringConverter"
+    }
+)
+public final class CommonReflectionConfiguration {
+
+    private CommonReflectionConfiguration() {}
+}
@@ -47,7 +47,18 @@ public final class DebeziumConfiguration {
 
     @Produces
     public Configuration configure() {
+        return configure(
+            "customers-postgres-connector",
+            "debezium",
+            "public.customers_outbox_events"
+        );
+    }
 
+    /**
+     * Creates the configuration of an embedded connector capturing the given tables. Connectors
+     * running against the same database must use distinct replication slots.
+     */
+    public Configuration configure(String name, String slotName, String tableIncludeList) {
         PostgresJdbcParser parser = PostgresJdbcParser.parse(url);
 
         log.warn("parser: {}", parser);
@@ -66,7 +77,7 @@ public final class DebeziumConfiguration {
         }
 
         return Configuration.create()
-            .with("name", "customers-postgres-connector")
+            .with("name", name)
             .with("connector.class", "io.debezium.connector.postgresql.PostgresConnector")
             .with("offset.storage", "org.apache.kafka.connect.storage.FileOffsetBackingStore")
             .with("offset.storage.file.filename", fileOffset.getAbsolutePath())
@@ -78,13 +89,14 @@ public final class DebeziumConfiguration {
             .with("database.dbname", parser.getDatabase())
 //            .with("database.include.list", parser.getDatabase())
 //            .with("schema.include.list", "public")
-            .with("table.include.list", "public.customers_outbox_events")
+            .with("table.include.list", tableIncludeList)
             .with("include.schema.changes", "false")
             .with("database.server.name", "dbserver1")
             .with("database.history", "io.debezium.relational.history.FileDatabaseHistory")
             .with("database.history.file.filename", fileDbHistory.getAbsolutePath())
             .with("topic.prefix", "meal.")
             .with("plugin.name", "pgoutput")
+            .with("slot.name", slotName)
             .with("tasks.max", "1")
 //            .with("transforms", "outbox")
 //            .with("transforms.outbox.type", "io.debezium.transforms.outbox.EventRouter")
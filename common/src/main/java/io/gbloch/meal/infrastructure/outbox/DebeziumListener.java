@@ -33,6 +33,7 @@ import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import io.smallrye.reactive.messaging.kafka.Record;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.Observes;
 import java.io.IOException;
 import java.util.UUID;
@@ -63,11 +64,18 @@ public final class DebeziumListener {
     // Interface to send events to movies Kafka topic
     @Channel("customers")
     Emitter<Record<String, JsonNode>> customersEmitter;
+    // Notifies the services of every captured outbox row
+    Event<OutboxEventCaptured> outboxEvents;
     private DebeziumEngine<RecordChangeEvent<SourceRecord>> engine;
 
-    public DebeziumListener(ManagedExecutor executor, Configuration configuration) {
+    public DebeziumListener(
+        ManagedExecutor executor,
+        Configuration configuration,
+        Event<OutboxEventCaptured> outboxEvents
+    ) {
         this.executor = executor;
         this.configuration = configuration;
+        this.outboxEvents = outboxEvents;
     }
 
     void onStart(@Observes StartupEvent event) {
@@ -104,16 +112,25 @@ public final class DebeziumListener {
                 String payload = struct.getString("payload");
                 log.error("Type: {}", type);
                 log.error("Payload: {}", payload);
+                final JsonNode payloadJson;
+                try {
+                    payloadJson = objectMapper.readValue(payload, JsonNode.class);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException(e);
+                }
+                outboxEvents.fire(
+                    new OutboxEventCaptured(
+                        struct.getString("aggregatetype"),
+                        struct.getString("aggregateid"),
+                        type,
+                        payloadJson
+                    )
+                );
                 if ("CUSTOMER_CREATED".equals(type)) {
-                    try {
-                        final JsonNode payloadJson = objectMapper.readValue(payload, JsonNode.class);
-                        String id = payloadJson.get("id").toString();
-
-//                         Populate content to Kafka topic
-                        customersEmitter.send(Record.of(id, payloadJson));
-                    } catch (JsonProcessingException e) {
-                        throw new IllegalArgumentException(e);
-                    }
+                    String id = payloadJson.get("id").toString();
+
+//                     Populate content to Kafka topic
+                    customersEmitter.send(Record.of(id, payloadJson));
                 }
             }
         }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.presentation.adapter.primary;
+
+/**
+ * Representations of the v1 REST API, negotiated with the {@code Accept} and
+ * {@code Content-Type} headers.
+ * <p>
+ * JSON is the public representation and the default one. CBOR and Smile carry the same document
+ * in binary form for the service-to-service callers, which save on payload size and parsing.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class ApiMediaTypes {
+
+    public static final String V1_JSON = "application/vnd.api.v1+json";
+    public static final String V1_CBOR = "application/vnd.api.v1+cbor";
+    public static final String V1_SMILE = "application/vnd.api.v1+smile";
+
+    private ApiMediaTypes() {}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.presentation.adapter.primary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Reads and writes the API documents, all records, with a binary Jackson format.
+ * <p>
+ * The mapper is a copy of the JSON one over the binary factory: it keeps the configuration of
+ * Quarkus and the registered codecs, so that the binary representations carry exactly the JSON
+ * documents.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+abstract class BinaryJacksonProvider
+    implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    private final ObjectMapper mapper;
+    private final MediaType mediaType;
+
+    BinaryJacksonProvider(ObjectMapper mapper, MediaType mediaType) {
+        this.mapper = mapper;
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    public boolean isReadable(
+        Class<?> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType
+    ) {
+        return type.isRecord() && this.mediaType.isCompatible(mediaType);
+    }
+
+    @Override
+    public Object readFrom(
+        Class<Object> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, String> httpHeaders,
+        InputStream entityStream
+    ) throws IOException {
+        return mapper.readValue(entityStream, mapper.constructType(genericType));
+    }
+
+    @Override
+    public boolean isWriteable(
+        Class<?> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType
+    ) {
+        return type.isRecord() && this.mediaType.isCompatible(mediaType);
+    }
+
+    @Override
+    public void writeTo(
+        Object entity,
+        Class<?> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, Object> httpHeaders,
+        OutputStream entityStream
+    ) throws IOException {
+        mapper.writeValue(entityStream, entity);
+    }
+}
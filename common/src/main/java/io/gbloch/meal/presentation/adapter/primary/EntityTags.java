@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.presentation.adapter.primary;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Entity tags derived from the fields that version a resource, and the conditional GET built on
+ * them.
+ * <p>
+ * The tags are weak: every negotiated representation of a version shares its tag, and responses
+ * vary on {@code Accept}.
+ * <p>
+ * A poller sending back the tag in {@code If-None-Match} gets a {@code 304 Not Modified} without a
+ * body, so the resource is only serialized when it changed. Responses are marked
+ * {@code no-cache}: shared caches may store them but must revalidate on every request.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class EntityTags {
+
+    private static final int TAG_BYTES = 16;
+    private static final CacheControl REVALIDATE = CacheControl.valueOf("no-cache");
+
+    private EntityTags() {}
+
+    /**
+     * Hashes the version fields of a resource, {@code null} fields included.
+     */
+    public static EntityTag of(Object... versionFields) {
+        MessageDigest digest = sha256();
+        for (Object field : versionFields) {
+            digest.update(String.valueOf(field).getBytes(StandardCharsets.UTF_8));
+            // Separator, so that ("ab", "c") and ("a", "bc") get different tags
+            digest.update((byte) 0);
+        }
+        byte[] hash = digest.digest();
+        return new EntityTag(HexFormat.of().formatHex(hash, 0, TAG_BYTES), true);
+    }
+
+    /**
+     * Returns {@code 304 Not Modified} when the request preconditions match the tag, the entity
+     * with its tag otherwise.
+     */
+    public static Response okIfModified(Request request, Object entity, EntityTag tag) {
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified
+                .tag(tag)
+                .cacheControl(REVALIDATE)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .build();
+        }
+        return Response
+            .ok(entity)
+            .tag(tag)
+            .cacheControl(REVALIDATE)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+            .build();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
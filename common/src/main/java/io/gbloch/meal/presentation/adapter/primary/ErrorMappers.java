@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.presentation.adapter.primary;
+
+import io.gbloch.meal.application.error.ApplicationException;
+import io.gbloch.meal.application.error.InvalidRequestException;
+import io.gbloch.meal.application.error.ResourceNotFoundException;
+import io.gbloch.meal.core.validation.ValidationException;
+import io.gbloch.meal.domain.error.DomainException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
+
+/**
+ * Maps the business exceptions of all the services, and the rejections of the overloaded ones, to
+ * error responses.
+ * <p>
+ * The mappers are bound at build time by RESTEasy Reactive, no reflection is involved when a
+ * request is rejected.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@Slf4j
+public final class ErrorMappers {
+
+    private static final String DOMAIN_ERROR = "DOMAIN_ERROR";
+    private static final String NOT_FOUND = "NOT_FOUND";
+    private static final String INVALID_REQUEST = "INVALID_REQUEST";
+    private static final String APPLICATION_ERROR = "APPLICATION_ERROR";
+    private static final String OVERLOADED = "OVERLOADED";
+    private static final int UNPROCESSABLE_ENTITY = 422;
+    // Concurrency limits adapt within a second, a retry after that meets the adjusted limit
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    @ServerExceptionMapper
+    public Response mapValidationException(ValidationException exception) {
+        log.debug("Invalid request: {}", exception.getMessage());
+        return error(
+            Response.Status.BAD_REQUEST.getStatusCode(),
+            new ErrorResponse(
+                exception.type().name(),
+                exception.getMessage(),
+                exception.field(),
+                exception.parameters()
+            )
+        );
+    }
+
+    @ServerExceptionMapper
+    public Response mapDomainException(DomainException exception) {
+        log.debug("Request rejected by the domain: {}", exception.getMessage());
+        return error(UNPROCESSABLE_ENTITY, ErrorResponse.of(DOMAIN_ERROR, exception.getMessage()));
+    }
+
+    @ServerExceptionMapper
+    public Response mapResourceNotFoundException(ResourceNotFoundException exception) {
+        log.debug("Resource not found: {}", exception.getMessage());
+        return error(
+            Response.Status.NOT_FOUND.getStatusCode(),
+            ErrorResponse.of(NOT_FOUND, exception.getMessage())
+        );
+    }
+
+    @ServerExceptionMapper
+    public Response mapInvalidRequestException(InvalidRequestException exception) {
+        log.debug("Invalid request: {}", exception.getMessage());
+        return error(
+            Response.Status.BAD_REQUEST.getStatusCode(),
+            ErrorResponse.of(INVALID_REQUEST, exception.getMessage())
+        );
+    }
+
+    @ServerExceptionMapper
+    public Response mapApplicationException(ApplicationException exception) {
+        // Not an expected rejection, keep the stack trace of the failure
+        log.error("Request failed: {}", exception.getMessage(), exception);
+        return error(
+            Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(),
+            ErrorResponse.of(APPLICATION_ERROR, exception.getMessage())
+        );
+    }
+
+    @ServerExceptionMapper
+    public Response mapBulkheadException(BulkheadException exception) {
+        log.debug("Request shed: {}", exception.getMessage());
+        return Response
+            .status(Response.Status.SERVICE_UNAVAILABLE)
+            .type(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+            .entity(ErrorResponse.of(OVERLOADED, exception.getMessage()))
+            .build();
+    }
+
+    private static Response error(int status, ErrorResponse errorResponse) {
+        return Response
+            .status(status)
+            .type(MediaType.APPLICATION_JSON)
+            .entity(errorResponse)
+            .build();
+    }
+}
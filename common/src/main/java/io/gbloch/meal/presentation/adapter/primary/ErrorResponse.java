@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.presentation.adapter.primary;
+
+import java.util.Map;
+
+/**
+ * Body of the error responses: a stable code for clients, a human readable message and, for
+ * validation errors, the invalid field with the parameters of the broken rule.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public record ErrorResponse(
+    String code,
+    String message,
+    String field,
+    Map<String, String> parameters
+) {
+    public static ErrorResponse of(String code, String message) {
+        return new ErrorResponse(code, message, null, Map.of());
+    }
+}
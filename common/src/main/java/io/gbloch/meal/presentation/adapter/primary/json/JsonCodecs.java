@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.presentation.adapter.primary.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streaming building blocks of the hand-written API codecs.
+ * <p>
+ * The codecs read and write the API records token by token, without the reflective bean
+ * introspection of Jackson databind, so they cost nothing to warm up and need no reflection
+ * registration in native mode. The documents are the ones databind produces: UUIDs, enums and
+ * instants as strings, decimals as numbers and {@code null} fields written out.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class JsonCodecs {
+
+    private static final int UUID_BYTES = 16;
+
+    private JsonCodecs() {}
+
+    /**
+     * Reads a value at the current token of the parser.
+     */
+    @FunctionalInterface
+    public interface ValueReader<T> {
+        T read(JsonParser parser, DeserializationContext context) throws IOException;
+    }
+
+    /**
+     * Writes a value at the current position of the generator.
+     */
+    @FunctionalInterface
+    public interface ValueWriter<T> {
+        void write(JsonGenerator generator, T value) throws IOException;
+    }
+
+    /**
+     * Enters the object at the current token and returns its first field name, the parser being
+     * left on that name, or {@code null} for an empty object.
+     */
+    public static String firstField(
+        JsonParser parser,
+        DeserializationContext context,
+        Class<?> type
+    ) throws IOException {
+        if (parser.isExpectedStartObjectToken()) {
+            return parser.nextFieldName();
+        }
+        if (parser.hasToken(JsonToken.FIELD_NAME)) {
+            return parser.currentName();
+        }
+        context.handleUnexpectedToken(type, parser);
+        return null;
+    }
+
+    public static String readString(JsonParser parser, DeserializationContext context)
+        throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            // Like databind, a number or a boolean is read as its text
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT, VALUE_TRUE, VALUE_FALSE -> parser.getText();
+            case VALUE_NULL -> null;
+            default -> (String) context.handleUnexpectedToken(String.class, parser);
+        };
+    }
+
+    public static int readInt(JsonParser parser, DeserializationContext context)
+        throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            case VALUE_NULL -> 0;
+            default -> (Integer) context.handleUnexpectedToken(Integer.class, parser);
+        };
+    }
+
+    public static BigDecimal readDecimal(JsonParser parser, DeserializationContext context)
+        throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_STRING -> {
+                try {
+                    yield new BigDecimal(parser.getText().trim());
+                } catch (NumberFormatException e) {
+                    throw context.weirdStringException(
+                        parser.getText(),
+                        BigDecimal.class,
+                        "not a valid decimal"
+                    );
+                }
+            }
+            case VALUE_NULL -> null;
+            default -> (BigDecimal) context.handleUnexpectedToken(BigDecimal.class, parser);
+        };
+    }
+
+    public static UUID readUuid(JsonParser parser, DeserializationContext context)
+        throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> {
+                try {
+                    yield UUID.fromString(parser.getText());
+                } catch (IllegalArgumentException e) {
+                    throw context.weirdStringException(
+                        parser.getText(),
+                        UUID.class,
+                        "not a valid UUID"
+                    );
+                }
+            }
+            // Binary formats may carry the UUID as its 16 raw bytes
+            case VALUE_EMBEDDED_OBJECT -> {
+                byte[] bytes = parser.getBinaryValue();
+                if (bytes.length != UUID_BYTES) {
+                    yield (UUID) context.handleUnexpectedToken(UUID.class, parser);
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                yield new UUID(buffer.getLong(), buffer.getLong());
+            }
+            case VALUE_NULL -> null;
+            default -> (UUID) context.handleUnexpectedToken(UUID.class, parser);
+        };
+    }
+
+    public static <E extends Enum<E>> E readEnum(
+        JsonParser parser,
+        DeserializationContext context,
+        Class<E> type
+    ) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> {
+                try {
+                    yield Enum.valueOf(type, parser.getText());
+                } catch (IllegalArgumentException e) {
+                    throw context.weirdStringException(
+                        parser.getText(),
+                        type,
+                        "not a " + type.getSimpleName() + " value"
+                    );
+                }
+            }
+            case VALUE_NULL -> null;
+            default -> type.cast(context.handleUnexpectedToken(type, parser));
+        };
+    }
+
+    public static <T> T readObject(
+        JsonParser parser,
+        DeserializationContext context,
+        ValueReader<T> reader
+    ) throws IOException {
+        return parser.hasToken(JsonToken.VALUE_NULL) ? null : reader.read(parser, context);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> readList(
+        JsonParser parser,
+        DeserializationContext context,
+        ValueReader<T> reader
+    ) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!parser.isExpectedStartArrayToken()) {
+            return (List<T>) context.handleUnexpectedToken(List.class, parser);
+        }
+        List<T> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readObject(parser, context, reader));
+        }
+        return values;
+    }
+
+    public static void writeString(JsonGenerator generator, String field, String value)
+        throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, value);
+        }
+    }
+
+    public static void writeUuid(JsonGenerator generator, String field, UUID value)
+        throws IOException {
+        writeString(generator, field, value == null ? null : value.toString());
+    }
+
+    public static void writeEnum(JsonGenerator generator, String field, Enum<?> value)
+        throws IOException {
+        writeString(generator, field, value == null ? null : value.name());
+    }
+
+    public static void writeInstant(JsonGenerator generator, String field, Instant value)
+        throws IOException {
+        writeString(generator, field, value == null ? null : value.toString());
+    }
+
+    public static void writeDecimal(JsonGenerator generator, String field, BigDecimal value)
+        throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    public static <T> void writeList(
+        JsonGenerator generator,
+        String field,
+        List<T> values,
+        ValueWriter<T> writer
+    ) throws IOException {
+        if (values == null) {
+            generator.writeNullField(field);
+            return;
+        }
+        generator.writeArrayFieldStart(field);
+        for (T value : values) {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                writer.write(generator, value);
+            }
+        }
+        generator.writeEndArray();
+    }
+}
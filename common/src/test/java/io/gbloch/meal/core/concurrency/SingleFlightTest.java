@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.core.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link SingleFlight} runs one loader for the concurrent callers of a key, and forgets
+ * the key once its result is no longer shared.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class SingleFlightTest {
+
+    private static final String KEY = "key";
+    private static final int FOLLOWERS = 4;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ZERO);
+        List<FutureTask<String>> callers = startConcurrentCallers(
+            singleFlight,
+            () -> "value-" + calls.get()
+        );
+
+        release.countDown();
+
+        for (FutureTask<String> caller : callers) {
+            assertThat(caller.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void failureIsRethrownToEveryWaitingCaller() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ZERO);
+        IllegalStateException failure = new IllegalStateException("lookup failed");
+        List<FutureTask<String>> callers = startConcurrentCallers(
+            singleFlight,
+            () -> {
+                throw failure;
+            }
+        );
+
+        release.countDown();
+
+        for (FutureTask<String> caller : callers) {
+            assertThatThrownBy(() -> caller.get(5, TimeUnit.SECONDS)).hasCauseReference(failure);
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void keyIsForgottenOnceTheLoadCompletes() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(Duration.ZERO);
+
+        assertThat(singleFlight.execute(KEY, calls::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.execute(KEY, calls::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void resultIsSharedForTheTtlOnly() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+
+        assertThat(singleFlight.execute(KEY, calls::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.execute(KEY, calls::incrementAndGet)).isEqualTo(1);
+        await()
+            .atMost(Duration.ofSeconds(5))
+            .until(() -> singleFlight.execute(KEY, calls::incrementAndGet) == 2);
+    }
+
+    @Test
+    void failureIsNotShared() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() ->
+                singleFlight.execute(
+                    KEY,
+                    () -> {
+                        throw new IllegalStateException("lookup failed");
+                    }
+                )
+            )
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute(KEY, calls::incrementAndGet)).isEqualTo(1);
+    }
+
+    /**
+     * Starts a caller whose load blocks until {@link #release}, then callers of the same key, and
+     * returns once they all wait for the first one.
+     */
+    private <V> List<FutureTask<V>> startConcurrentCallers(
+        SingleFlight<String, V> singleFlight,
+        Supplier<V> result
+    ) throws InterruptedException {
+        List<FutureTask<V>> callers = new ArrayList<>();
+        List<Thread> followers = new ArrayList<>();
+        Supplier<V> loader = () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return result.get();
+        };
+        for (int i = 0; i <= FOLLOWERS; i++) {
+            FutureTask<V> caller = new FutureTask<>(() -> singleFlight.execute(KEY, loader));
+            Thread thread = new Thread(caller);
+            callers.add(caller);
+            thread.start();
+            if (i == 0) {
+                assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            } else {
+                followers.add(thread);
+            }
+        }
+        // A follower parks in CompletableFuture.join while the first caller loads
+        await()
+            .atMost(Duration.ofSeconds(5))
+            .until(() -> followers.stream().allMatch(t -> t.getState() == Thread.State.WAITING));
+        return callers;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feeds {@link GradientConcurrencyLimit} windows of chosen latencies and concurrency, on a clock of
+ * its own, and checks how the limit moves.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class GradientConcurrencyLimitTest {
+
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 4;
+    private static final int MAX_LIMIT = 200;
+    private static final long BASELINE_RTT = 1_000_000;
+    // Samples in a window, as long as they span two no-load latencies
+    private static final int WINDOW_SAMPLES = 10;
+    private static final int BASELINE_WINDOWS = 100;
+
+    private final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(
+        INITIAL_LIMIT,
+        MIN_LIMIT,
+        MAX_LIMIT
+    );
+    private long now;
+
+    @Test
+    void limitGrowsWhileTheLatencyStaysWithinTheTolerance() {
+        windows(limit, 1, INITIAL_LIMIT, BASELINE_RTT);
+        double before = limit.limit();
+
+        windows(limit, 5, INITIAL_LIMIT, BASELINE_RTT * 14 / 10);
+
+        assertThat(limit.limit()).isGreaterThan(before);
+    }
+
+    @Test
+    void limitShrinksWhenTheLatencyExceedsTheTolerance() {
+        windows(limit, 1, INITIAL_LIMIT, BASELINE_RTT);
+        double before = limit.limit();
+
+        windows(limit, 1, INITIAL_LIMIT, BASELINE_RTT * 3);
+
+        assertThat(limit.limit()).isLessThan(before);
+        assertThat(limit.queued()).isPositive();
+    }
+
+    @Test
+    void limitNeverExceedsTheMaximum() {
+        GradientConcurrencyLimit bounded = new GradientConcurrencyLimit(
+            INITIAL_LIMIT,
+            MIN_LIMIT,
+            30
+        );
+
+        windows(bounded, 50, MAX_LIMIT, BASELINE_RTT);
+
+        assertThat(bounded.limit()).isEqualTo(30);
+    }
+
+    @Test
+    void limitNeverFallsBelowTheMinimum() {
+        GradientConcurrencyLimit bounded = new GradientConcurrencyLimit(
+            INITIAL_LIMIT,
+            8,
+            MAX_LIMIT
+        );
+        windows(bounded, 1, INITIAL_LIMIT, BASELINE_RTT);
+
+        windows(bounded, 50, INITIAL_LIMIT, BASELINE_RTT * 10);
+
+        assertThat(bounded.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void limitHoldsWhileLessThanHalfOfItIsInUse() {
+        windows(limit, 10, INITIAL_LIMIT / 2 - 1, BASELINE_RTT);
+        windows(limit, 10, INITIAL_LIMIT / 2 - 1, BASELINE_RTT * 10);
+
+        assertThat(limit.limit()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    void higherNoLoadLatencyIsAdoptedOnceTheMinimumLimitStillSeesIt() {
+        long raisedRtt = BASELINE_RTT * 4;
+        windows(limit, 1, INITIAL_LIMIT, BASELINE_RTT);
+        // The first baseline windows still hold the former no-load latency
+        windows(limit, 2 * BASELINE_WINDOWS - 2, INITIAL_LIMIT, raisedRtt);
+        assertThat(limit.limit()).isEqualTo(MIN_LIMIT);
+
+        windows(limit, 6, INITIAL_LIMIT, raisedRtt);
+
+        assertThat(limit.limit()).isGreaterThan(MIN_LIMIT);
+        assertThat(limit.queued()).isZero();
+    }
+
+    /**
+     * Releases the samples of the given windows one after the other, each call lasting the given
+     * latency, with up to the given number of calls in flight.
+     */
+    private void windows(GradientConcurrencyLimit target, int count, int concurrency, long rtt) {
+        for (int sample = 0; sample < count * WINDOW_SAMPLES; sample++) {
+            while (target.inflight() < concurrency && target.tryAcquire()) {
+                // Tops the calls in flight up to the concurrency, within the limit
+            }
+            target.release(now, now + rtt);
+            now += rtt;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+
+/**
+ * Embedded Postgres migrated with the Flyway migrations found on the classpath of the module under
+ * test, for the tests of the persistence adapters.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class MigratedDatabase implements AutoCloseable {
+
+    private static final String USER = "postgres";
+    private static final String DATABASE = "postgres";
+
+    private final EmbeddedPostgres postgres;
+    private final DataSource dataSource;
+
+    private MigratedDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+        this.dataSource = postgres.getPostgresDatabase();
+    }
+
+    public static MigratedDatabase start() throws IOException {
+        MigratedDatabase database = new MigratedDatabase(EmbeddedPostgres.start());
+        Flyway.configure().dataSource(database.dataSource).load().migrate();
+        return database;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public String jdbcUrl() {
+        return postgres.getJdbcUrl(USER, DATABASE);
+    }
+
+    public String user() {
+        return USER;
+    }
+
+    public void execute(String... statements) throws SQLException {
+        try (
+            Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()
+        ) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Inserts the given number of rows, with values computed from the row number {@code i}, then
+     * analyzes the table so that the planner sees its real size.
+     */
+    public void fill(String table, int rows, String columns, String values) throws SQLException {
+        String insert = "INSERT INTO %s (%s) SELECT %s FROM generate_series(1, %d) i";
+        execute(insert.formatted(table, columns, values, rows), "ANALYZE " + table);
+    }
+
+    public String explain(String query) throws SQLException {
+        try (
+            Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)
+        ) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    /**
+     * Asserts that a lookup by value of the uuid column is planned as a plain or a bitmap scan of
+     * the index.
+     */
+    public void assertIndexScan(String table, String column, String index) throws SQLException {
+        String plan = explain(
+            "SELECT * FROM %s WHERE %s = '%s'".formatted(table, column, UUID.randomUUID())
+        );
+        assertThat(plan)
+            .as("plan of a lookup by %s.%s", table, column)
+            .containsPattern("Index Scan (using|on) " + index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
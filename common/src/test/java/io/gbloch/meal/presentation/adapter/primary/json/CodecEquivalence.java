@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.presentation.adapter.primary.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import java.io.IOException;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Checks the streaming codecs of a service against Jackson databind, in JSON, CBOR and Smile.
+ * <p>
+ * The reference is a plain databind mapper configured like the one of Quarkus, the streaming
+ * mapper is a copy of it with the codecs registered by the customizer of the service.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class CodecEquivalence {
+
+    private static final Map<String, Supplier<JsonFactory>> FORMATS = Map.of(
+        "json",
+        JsonFactory::new,
+        "cbor",
+        CBORFactory::new,
+        "smile",
+        SmileFactory::new
+    );
+
+    private CodecEquivalence() {}
+
+    /**
+     * Asserts that a streaming codec handles the type of the document, and that the streaming
+     * mapper writes the document databind writes, every record component included, and reads it
+     * back as databind does.
+     */
+    public static void assertSameAsDatabind(ObjectMapperCustomizer codecs, Object document)
+        throws IOException, ReflectiveOperationException {
+        Class<?> type = document.getClass();
+        for (Map.Entry<String, Supplier<JsonFactory>> format : FORMATS.entrySet()) {
+            ObjectMapper databind = databind(format.getValue().get());
+            ObjectMapper streaming = streaming(databind, codecs);
+            assertThat(hasStreamingCodec(streaming, codecs, type))
+                .as("streaming codec of %s", type.getSimpleName())
+                .isTrue();
+
+            byte[] expected = databind.writeValueAsBytes(document);
+            JsonNode written = databind.readTree(streaming.writeValueAsBytes(document));
+            assertThat(written)
+                .as("%s written in %s", type.getSimpleName(), format.getKey())
+                .isEqualTo(databind.readTree(expected));
+            assertComponentsWritten(document, written, type.getSimpleName());
+
+            assertThat(streaming.readValue(expected, type))
+                .as("%s read from %s", type.getSimpleName(), format.getKey())
+                .isEqualTo(databind.readValue(expected, type))
+                .isEqualTo(document);
+        }
+    }
+
+    /**
+     * Asserts that the streaming mapper reads the given JSON document, converted to each format,
+     * as databind does, for documents no codec writes such as scalars in place of strings.
+     */
+    public static void assertReadsLikeDatabind(
+        ObjectMapperCustomizer codecs,
+        Class<?> type,
+        String json
+    ) throws IOException {
+        JsonNode tree = new ObjectMapper().readTree(json);
+        for (Map.Entry<String, Supplier<JsonFactory>> format : FORMATS.entrySet()) {
+            ObjectMapper databind = databind(format.getValue().get());
+            byte[] document = databind.writeValueAsBytes(tree);
+
+            assertThat(streaming(databind, codecs).readValue(document, type))
+                .as("%s read from %s", type.getSimpleName(), format.getKey())
+                .isEqualTo(databind.readValue(document, type));
+        }
+    }
+
+    private static ObjectMapper databind(JsonFactory factory) {
+        // Configured like the mapper of Quarkus
+        return new ObjectMapper(factory)
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private static ObjectMapper streaming(ObjectMapper databind, ObjectMapperCustomizer codecs) {
+        ObjectMapper streaming = databind.copy();
+        codecs.customize(streaming);
+        return streaming;
+    }
+
+    private static boolean hasStreamingCodec(
+        ObjectMapper streaming,
+        ObjectMapperCustomizer codecs,
+        Class<?> type
+    ) throws IOException {
+        // The codecs live next to the customizer registering them
+        String codecPackage = codecs.getClass().getPackageName();
+        JavaType javaType = streaming.constructType(type);
+        Object serializer = streaming.getSerializerProviderInstance().findValueSerializer(type);
+        Object deserializer =
+            ((DefaultDeserializationContext) streaming.getDeserializationContext()).createInstance(
+                    streaming.getDeserializationConfig(),
+                    null,
+                    null
+                )
+                .findRootValueDeserializer(javaType);
+        return (
+            serializer.getClass().getPackageName().equals(codecPackage) ||
+            deserializer.getClass().getPackageName().equals(codecPackage)
+        );
+    }
+
+    private static void assertComponentsWritten(Object value, JsonNode node, String path)
+        throws ReflectiveOperationException {
+        if (value instanceof Record record) {
+            for (RecordComponent component : record.getClass().getRecordComponents()) {
+                String name = component.getName();
+                assertThat(node.has(name)).as("%s.%s written", path, name).isTrue();
+                assertComponentsWritten(
+                    component.getAccessor().invoke(record),
+                    node.get(name),
+                    path + "." + name
+                );
+            }
+        } else if (value instanceof List<?> values) {
+            for (int i = 0; i < values.size(); i++) {
+                assertComponentsWritten(values.get(i), node.get(i), path + "[" + i + "]");
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ import io.gbloch.meal.customer.application.dto.CreateCustomerCommand;
 import io.gbloch.meal.customer.application.dto.CreateCustomerResponse;
 import io.gbloch.meal.customer.application.mapper.CustomerMapper;
 import io.gbloch.meal.customer.application.port.input.CreateCustomerUseCase;
+import io.gbloch.meal.customer.application.port.output.cache.CustomerCache;
 import io.gbloch.meal.customer.application.port.output.repository.CustomerRepository;
 import io.gbloch.meal.customer.domain.entity.Customer;
 import io.gbloch.meal.customer.domain.error.CustomerDomainException;
@@ -28,7 +29,6 @@ import io.gbloch.meal.customer.domain.service.CustomerDomainService;
 import io.gbloch.meal.domain.vo.CustomerId;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,12 +49,14 @@ final class CustomerCommandHandler implements CreateCustomerUseCase {
 
     private final CustomerMapper customerMapper;
 
+    private final CustomerCache customerCache;
+
     @Override
     @Transactional
     public CreateCustomerResponse createCustomer(CreateCustomerCommand createCustomerCommand) {
         log.info("Received CreateCustomerCommand: {}", createCustomerCommand);
         Customer customer = customerMapper.toCustomer(createCustomerCommand);
-        customer.setId(new CustomerId(UUID.randomUUID()));
+        customer.setId(new CustomerId());
         Customer savedCustomer = customerRepository
             .save(customer)
             .orElseThrow(() ->
@@ -64,6 +66,8 @@ final class CustomerCommandHandler implements CreateCustomerUseCase {
             );
         // Persist the event to Outbox table
         customerDomainService.createCustomer(savedCustomer);
+        // Cached on commit, so that the first profile reads do not hit the database
+        customerCache.put(customerMapper.toGetCustomerResponse(savedCustomer));
         return customerMapper.toCreateCustomerResponse(
             savedCustomer,
             "Customer created successfully"
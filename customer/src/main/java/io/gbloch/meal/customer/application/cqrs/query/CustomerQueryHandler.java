@@ -16,11 +16,11 @@
 
 package io.gbloch.meal.customer.application.cqrs.query;
 
-import io.gbloch.meal.application.error.ApplicationException;
+import io.gbloch.meal.application.error.ResourceNotFoundException;
 import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
-import io.gbloch.meal.customer.application.error.CustomerApplicationException;
 import io.gbloch.meal.customer.application.mapper.CustomerMapper;
 import io.gbloch.meal.customer.application.port.input.GetCustomerUseCase;
+import io.gbloch.meal.customer.application.port.output.cache.CustomerCache;
 import io.gbloch.meal.customer.application.port.output.repository.CustomerRepository;
 import io.gbloch.meal.domain.vo.CustomerId;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -41,13 +41,24 @@ public final class CustomerQueryHandler implements GetCustomerUseCase {
 
     private final CustomerMapper customerMapper;
 
+    private final CustomerCache customerCache;
+
     @Override
     public GetCustomerResponse getCustomer(UUID customerId) {
-        return customerRepository
-            .findById(new CustomerId(customerId))
+        CustomerId id = new CustomerId(customerId);
+        return customerCache.get(id).orElseGet(() -> load(id));
+    }
+
+    private GetCustomerResponse load(CustomerId id) {
+        GetCustomerResponse response = customerRepository
+            .findById(id)
             .map(customerMapper::toGetCustomerResponse)
             .orElseThrow(() ->
-                new CustomerApplicationException("Customer with id " + customerId + " not found")
+                new ResourceNotFoundException(
+                    "Customer with id " + id.getValue() + " not found"
+                )
             );
+        customerCache.put(response);
+        return response;
     }
 }
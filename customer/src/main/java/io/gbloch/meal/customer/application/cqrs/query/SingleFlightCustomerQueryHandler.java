@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.application.cqrs.query;
+
+import io.gbloch.meal.core.concurrency.SingleFlight;
+import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
+import io.gbloch.meal.customer.application.port.input.GetCustomerUseCase;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import java.time.Duration;
+import java.util.UUID;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Single-flight front of the {@link GetCustomerUseCase}.
+ * <p>
+ * Concurrent lookups of the same customer share one {@link CustomerQueryHandler} call, so that a
+ * cache miss under load loads the customer once instead of once per request.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@Alternative
+@Priority(1)
+@IfBuildProperty(name = "meal.single-flight.enabled", stringValue = "true", enableIfMissing = true)
+final class SingleFlightCustomerQueryHandler implements GetCustomerUseCase {
+
+    private final CustomerQueryHandler customerQueryHandler;
+    private final SingleFlight<UUID, GetCustomerResponse> singleFlight;
+
+    SingleFlightCustomerQueryHandler(
+        CustomerQueryHandler customerQueryHandler,
+        @ConfigProperty(name = "meal.single-flight.ttl", defaultValue = "50ms") Duration ttl
+    ) {
+        this.customerQueryHandler = customerQueryHandler;
+        this.singleFlight = new SingleFlight<>(ttl);
+    }
+
+    @Override
+    public GetCustomerResponse getCustomer(UUID customerId) {
+        return singleFlight.execute(customerId, () -> customerQueryHandler.getCustomer(customerId));
+    }
+}
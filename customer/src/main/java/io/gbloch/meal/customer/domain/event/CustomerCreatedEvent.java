@@ -21,7 +21,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.gbloch.meal.customer.domain.entity.Customer;
 import io.gbloch.meal.domain.entity.AggregateType;
 import io.gbloch.meal.domain.event.DomainEvent;
-import io.gbloch.meal.domain.event.EventHeader;
+import io.gbloch.meal.domain.event.EventHeaderFactory;
+import io.gbloch.meal.domain.event.EventSourceType;
 import io.gbloch.meal.domain.event.EventType;
 import io.gbloch.meal.domain.vo.CustomerId;
 import java.time.Instant;
@@ -37,7 +38,7 @@ public final class CustomerCreatedEvent extends DomainEvent<CustomerId, Customer
 
     private CustomerCreatedEvent(CustomerId id, JsonNode payload) {
         super(
-            EventHeader.of(),
+            EventHeaderFactory.forSource(EventSourceType.CUSTOMER).create(),
             id,
             Instant.now(),
             payload
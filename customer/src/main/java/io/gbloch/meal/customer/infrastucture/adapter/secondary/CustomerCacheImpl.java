@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.infrastucture.adapter.secondary;
+
+import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
+import io.gbloch.meal.customer.application.port.output.cache.CustomerCache;
+import io.gbloch.meal.domain.vo.CustomerId;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caffeine-backed {@link CustomerCache}, bounded and instrumented through the
+ * {@code quarkus.cache.caffeine."customers".*} properties.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+public final class CustomerCacheImpl implements CustomerCache {
+
+    static final String CACHE_NAME = "customers";
+
+    private final CaffeineCache cache;
+    private final TransactionSynchronizationRegistry transactions;
+
+    public CustomerCacheImpl(
+        @CacheName(CACHE_NAME) Cache cache,
+        TransactionSynchronizationRegistry transactions
+    ) {
+        this.cache = cache.as(CaffeineCache.class);
+        this.transactions = transactions;
+    }
+
+    @Override
+    public Optional<GetCustomerResponse> get(CustomerId id) {
+        CompletableFuture<GetCustomerResponse> cached = cache.getIfPresent(id.getValue());
+        return cached == null ? Optional.empty() : Optional.ofNullable(cached.getNow(null));
+    }
+
+    @Override
+    public void put(GetCustomerResponse customer) {
+        if (transactions.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            transactions.registerInterposedSynchronization(new PutAfterCommit(customer));
+        } else {
+            store(customer);
+        }
+    }
+
+    @Override
+    public void invalidate(CustomerId id) {
+        cache.invalidate(id.getValue()).await().indefinitely();
+    }
+
+    private void store(GetCustomerResponse customer) {
+        UUID key = customer.customerId();
+        cache.put(key, CompletableFuture.completedFuture(customer));
+    }
+
+    /**
+     * Keeps a rolled back creation out of the cache.
+     */
+    private final class PutAfterCommit implements Synchronization {
+
+        private final GetCustomerResponse customer;
+
+        private PutAfterCommit(GetCustomerResponse customer) {
+            this.customer = customer;
+        }
+
+        @Override
+        public void beforeCompletion() {}
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == Status.STATUS_COMMITTED) {
+                store(customer);
+            }
+        }
+    }
+}
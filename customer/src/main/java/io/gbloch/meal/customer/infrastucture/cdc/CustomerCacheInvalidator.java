@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.infrastucture.cdc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
+import io.gbloch.meal.customer.application.port.output.cache.CustomerCache;
+import io.gbloch.meal.domain.entity.AggregateType;
+import io.gbloch.meal.domain.event.EventType;
+import io.gbloch.meal.domain.vo.CustomerId;
+import io.gbloch.meal.infrastructure.outbox.OutboxEventCaptured;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the {@link CustomerCache} in line with the customer outbox events tailed by the
+ * {@code DebeziumListener}: a creation carries the full profile and refreshes the entry, any
+ * other customer event evicts it.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public final class CustomerCacheInvalidator {
+
+    private final CustomerCache customerCache;
+
+    void onOutboxEvent(@Observes OutboxEventCaptured event) {
+        if (!AggregateType.CUSTOMER.name().equals(event.aggregateType())) {
+            return;
+        }
+        CustomerId id = new CustomerId(UUID.fromString(event.aggregateId()));
+        if (EventType.CUSTOMER_CREATED.name().equals(event.type())) {
+            customerCache.put(toGetCustomerResponse(event.payload()));
+        } else {
+            log.debug("Evicting customer [{}] on {}", id.getValue(), event.type());
+            customerCache.invalidate(id);
+        }
+    }
+
+    private static GetCustomerResponse toGetCustomerResponse(JsonNode payload) {
+        return GetCustomerResponse
+            .builder()
+            .customerId(UUID.fromString(payload.get("id").asText()))
+            .userName(payload.get("userName").asText())
+            .firstName(payload.get("firstName").asText())
+            .lastName(payload.get("lastName").asText())
+            .build();
+    }
+}
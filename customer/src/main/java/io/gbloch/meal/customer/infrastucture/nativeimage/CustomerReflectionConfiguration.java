@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.infrastucture.nativeimage;
+
+import io.gbloch.meal.customer.application.dto.CreateCustomerCommand;
+import io.gbloch.meal.customer.application.dto.CreateCustomerResponse;
+import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Native-image reflection registration of the customer service.
+ *
+ * <p>The resources return their Lombok-built records wrapped in a {@code Response}, so their types
+ * are not discovered at build time. MapStruct mappers are CDI beans and need no registration.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@RegisterForReflection(
+    targets = {
+        CreateCustomerCommand.class,
+        CreateCustomerResponse.class,
+        GetCustomerResponse.class
+    }
+)
+public final class CustomerReflectionConfiguration {
+
+    private CustomerReflectionConfiguration() {}
+}
@@ -21,6 +21,9 @@ import io.gbloch.meal.customer.application.dto.CreateCustomerResponse;
 import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
 import io.gbloch.meal.customer.application.port.input.CreateCustomerUseCase;
 import io.gbloch.meal.customer.application.port.input.GetCustomerUseCase;
+import io.gbloch.meal.presentation.adapter.primary.ApiMediaTypes;
+import io.gbloch.meal.presentation.adapter.primary.EntityTags;
+import io.quarkus.arc.properties.UnlessBuildProperty;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -28,7 +31,10 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -42,10 +48,15 @@ import org.slf4j.Logger;
  */
 @ApplicationScoped
 @RequiredArgsConstructor
+@UnlessBuildProperty(
+    name = "meal.virtual-threads.enabled",
+    stringValue = "true",
+    enableIfMissing = true
+)
 @Path("api/v1/customers")
-@Produces("application/vnd.api.v1+json")
-@Consumes(MediaType.APPLICATION_JSON)
-public final class CustomerResource {
+@Produces({ ApiMediaTypes.V1_JSON, ApiMediaTypes.V1_CBOR, ApiMediaTypes.V1_SMILE })
+@Consumes({ MediaType.APPLICATION_JSON, ApiMediaTypes.V1_CBOR, ApiMediaTypes.V1_SMILE })
+public class CustomerResource {
 
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(CustomerResource.class);
     private final CreateCustomerUseCase createCustomerUseCase;
@@ -64,10 +75,18 @@ public final class CustomerResource {
 
     @Path("/{customerId}")
     @GET
-    public Response getCustomer(@PathParam("customerId") UUID customerId) {
+    public Response getCustomer(
+        @PathParam("customerId") UUID customerId,
+        @Context Request request
+    ) {
         log.info("Received get customer request: {}", customerId);
         GetCustomerResponse response = getCustomerUseCase.getCustomer(customerId);
         log.info("Customer found: {}", response);
-        return Response.ok(response).build();
+        EntityTag tag = EntityTags.of(
+            response.userName(),
+            response.firstName(),
+            response.lastName()
+        );
+        return EntityTags.okIfModified(request, response, tag);
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.presentation.adpater.primary;
+
+import io.gbloch.meal.customer.application.dto.CreateCustomerCommand;
+import io.gbloch.meal.customer.application.port.input.CreateCustomerUseCase;
+import io.gbloch.meal.customer.application.port.input.GetCustomerUseCase;
+import io.gbloch.meal.presentation.adapter.primary.ApiMediaTypes;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import java.util.UUID;
+
+/**
+ * {@link CustomerResource} running on virtual threads, built in place of it when
+ * {@code meal.virtual-threads.enabled} is {@code true}.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "meal.virtual-threads.enabled", stringValue = "true")
+@Path("api/v1/customers")
+@Produces({ ApiMediaTypes.V1_JSON, ApiMediaTypes.V1_CBOR, ApiMediaTypes.V1_SMILE })
+@Consumes({ MediaType.APPLICATION_JSON, ApiMediaTypes.V1_CBOR, ApiMediaTypes.V1_SMILE })
+public final class VirtualThreadCustomerResource extends CustomerResource {
+
+    VirtualThreadCustomerResource(
+        CreateCustomerUseCase createCustomerUseCase,
+        GetCustomerUseCase getCustomerUseCase
+    ) {
+        super(createCustomerUseCase, getCustomerUseCase);
+    }
+
+    @Override
+    @POST
+    @RunOnVirtualThread
+    public Response createCustomer(CreateCustomerCommand createCustomerCommand) {
+        return super.createCustomer(createCustomerCommand);
+    }
+
+    @Override
+    @Path("/{customerId}")
+    @GET
+    @RunOnVirtualThread
+    public Response getCustomer(
+        @PathParam("customerId") UUID customerId,
+        @Context Request request
+    ) {
+        return super.getCustomer(customerId, request);
+    }
+}
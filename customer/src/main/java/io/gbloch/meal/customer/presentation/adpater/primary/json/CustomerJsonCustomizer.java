@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.presentation.adpater.primary.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.gbloch.meal.customer.application.dto.CreateCustomerCommand;
+import io.gbloch.meal.customer.application.dto.CreateCustomerResponse;
+import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
+import io.gbloch.meal.customer.presentation.adpater.primary.json.CustomerRequestDeserializers.CreateCustomerCommandDeserializer;
+import io.gbloch.meal.customer.presentation.adpater.primary.json.CustomerResponseSerializers.CreateCustomerResponseSerializer;
+import io.gbloch.meal.customer.presentation.adpater.primary.json.CustomerResponseSerializers.GetCustomerResponseSerializer;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+
+/**
+ * Registers the streaming codecs of the customer API records on every Jackson mapper of the
+ * service.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@Singleton
+public final class CustomerJsonCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper mapper) {
+        mapper.registerModule(
+            new SimpleModule("customer-api")
+                .addDeserializer(
+                    CreateCustomerCommand.class,
+                    new CreateCustomerCommandDeserializer()
+                )
+                .addSerializer(CreateCustomerResponse.class, new CreateCustomerResponseSerializer())
+                .addSerializer(GetCustomerResponse.class, new GetCustomerResponseSerializer())
+        );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.presentation.adpater.primary.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.gbloch.meal.customer.application.dto.CreateCustomerCommand;
+import io.gbloch.meal.presentation.adapter.primary.json.JsonCodecs;
+import java.io.IOException;
+
+/**
+ * Streaming deserializers of the customer API requests.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class CustomerRequestDeserializers {
+
+    private CustomerRequestDeserializers() {}
+
+    static final class CreateCustomerCommandDeserializer
+        extends StdDeserializer<CreateCustomerCommand> {
+
+        CreateCustomerCommandDeserializer() {
+            super(CreateCustomerCommand.class);
+        }
+
+        @Override
+        public CreateCustomerCommand deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException {
+            var builder = CreateCustomerCommand.builder();
+            String field = JsonCodecs.firstField(parser, context, CreateCustomerCommand.class);
+            while (field != null) {
+                parser.nextToken();
+                switch (field) {
+                    case "userName" -> builder.userName(JsonCodecs.readString(parser, context));
+                    case "firstName" -> builder.firstName(JsonCodecs.readString(parser, context));
+                    case "lastName" -> builder.lastName(JsonCodecs.readString(parser, context));
+                    default -> context.handleUnknownProperty(
+                        parser,
+                        this,
+                        CreateCustomerCommand.class,
+                        field
+                    );
+                }
+                field = parser.nextFieldName();
+            }
+            return builder.build();
+        }
+    }
+}
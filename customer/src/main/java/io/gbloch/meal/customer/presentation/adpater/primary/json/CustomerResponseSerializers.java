@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.presentation.adpater.primary.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.gbloch.meal.customer.application.dto.CreateCustomerResponse;
+import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
+import io.gbloch.meal.presentation.adapter.primary.json.JsonCodecs;
+import java.io.IOException;
+
+/**
+ * Streaming serializers of the customer API responses.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class CustomerResponseSerializers {
+
+    private CustomerResponseSerializers() {}
+
+    static final class CreateCustomerResponseSerializer
+        extends StdSerializer<CreateCustomerResponse> {
+
+        CreateCustomerResponseSerializer() {
+            super(CreateCustomerResponse.class);
+        }
+
+        @Override
+        public void serialize(
+            CreateCustomerResponse value,
+            JsonGenerator generator,
+            SerializerProvider provider
+        ) throws IOException {
+            generator.writeStartObject(value);
+            JsonCodecs.writeUuid(generator, "customerId", value.customerId());
+            JsonCodecs.writeString(generator, "message", value.message());
+            generator.writeEndObject();
+        }
+    }
+
+    static final class GetCustomerResponseSerializer extends StdSerializer<GetCustomerResponse> {
+
+        GetCustomerResponseSerializer() {
+            super(GetCustomerResponse.class);
+        }
+
+        @Override
+        public void serialize(
+            GetCustomerResponse value,
+            JsonGenerator generator,
+            SerializerProvider provider
+        ) throws IOException {
+            generator.writeStartObject(value);
+            JsonCodecs.writeUuid(generator, "customerId", value.customerId());
+            JsonCodecs.writeString(generator, "userName", value.userName());
+            JsonCodecs.writeString(generator, "firstName", value.firstName());
+            JsonCodecs.writeString(generator, "lastName", value.lastName());
+            generator.writeEndObject();
+        }
+    }
+}
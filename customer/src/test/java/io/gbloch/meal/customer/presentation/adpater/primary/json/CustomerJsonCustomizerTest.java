@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.customer.presentation.adpater.primary.json;
+
+import io.gbloch.meal.customer.application.dto.CreateCustomerCommand;
+import io.gbloch.meal.customer.application.dto.CreateCustomerResponse;
+import io.gbloch.meal.customer.application.dto.GetCustomerResponse;
+import io.gbloch.meal.presentation.adapter.primary.json.CodecEquivalence;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that the streaming codecs of the customer API read and write the documents of databind.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class CustomerJsonCustomizerTest {
+
+    private static final CustomerJsonCustomizer CODECS = new CustomerJsonCustomizer();
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    void codecsMatchDatabind(Object document) throws Exception {
+        CodecEquivalence.assertSameAsDatabind(CODECS, document);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            """
+            {"userName": 42, "firstName": "Gaëtan", "lastName": null}
+            """,
+            """
+            {"userName": "gbloch", "firstName": false, "lastName": 1.5, "age": 30}
+            """,
+        }
+    )
+    void createCommandReadsLikeDatabind(String json) throws IOException {
+        CodecEquivalence.assertReadsLikeDatabind(CODECS, CreateCustomerCommand.class, json);
+    }
+
+    static Stream<Object> documents() {
+        UUID customerId = UUID.randomUUID();
+        return Stream.of(
+            CreateCustomerCommand
+                .builder()
+                .userName("gbloch")
+                .firstName("Gaëtan")
+                .lastName("Bloch")
+                .build(),
+            CreateCustomerCommand.builder().build(),
+            CreateCustomerResponse
+                .builder()
+                .customerId(customerId)
+                .message("Customer created successfully")
+                .build(),
+            CreateCustomerResponse.builder().build(),
+            GetCustomerResponse
+                .builder()
+                .customerId(customerId)
+                .userName("gbloch")
+                .firstName("Gaëtan")
+                .lastName("Bloch")
+                .build(),
+            GetCustomerResponse.builder().build()
+        );
+    }
+}
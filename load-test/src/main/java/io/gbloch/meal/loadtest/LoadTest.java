@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Drives the customer and order services at constant arrival rates and reports the latency
+ * percentiles of each request type.
+ * <p>
+ * The services run with the {@code loadtest} profile (built with {@code -Ploadtest}) against the
+ * databases of {@link LoadTestDatabase} and an in-memory messaging connector, so that a run needs
+ * neither Docker nor Kafka:
+ * <pre>
+ * mvn -pl load-test exec:java -Dloadtest.main=io.gbloch.meal.loadtest.LoadTestDatabase
+ * java -Dquarkus.profile=loadtest -jar customer/target/quarkus-app/quarkus-run.jar
+ * java -Dquarkus.profile=loadtest -jar order/target/quarkus-app/quarkus-run.jar
+ * mvn -pl load-test exec:java -Dmeal.loadtest.order.rate=100 -Dmeal.loadtest.duration=PT2M
+ * </pre>
+ * The full latency distributions are written as {@code .hgrm} files in the report directory.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class LoadTest {
+
+    private static final String MEDIA_TYPE = "application/vnd.api.v1+json";
+    private static final int TRACKING_IDS = 4096;
+    private static final int ITEMS_PER_ORDER = 2;
+
+    private final LoadTestConfig config;
+    private final LoadTestData data;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+    // Tracking ids of the created orders, overwritten in a ring
+    private final AtomicReferenceArray<String> trackingIds = new AtomicReferenceArray<>(
+        TRACKING_IDS
+    );
+    private final AtomicLong createdOrders = new AtomicLong();
+
+    private LoadTest(LoadTestConfig config, LoadTestData data) {
+        this.config = config;
+        this.data = data;
+    }
+
+    public static void main(String[] args) throws SQLException, IOException, InterruptedException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        new LoadTest(config, LoadTestData.seed(config.orderDatabasePort())).run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        HttpClient client = HttpClient
+            .newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        primeTrackingIds(client);
+
+        List<OpenLoadGenerator> generators = new ArrayList<>(3);
+        for (Scenario scenario : scenarios()) {
+            generators.add(new OpenLoadGenerator(scenario, client, config.maxInFlight()));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(generators.size());
+        generators.forEach(executor::execute);
+
+        Thread.sleep(config.warmup().toMillis());
+        generators.forEach(OpenLoadGenerator::sample);
+        Thread.sleep(config.duration().toMillis());
+        List<OpenLoadGenerator.Sample> samples = new ArrayList<>(generators.size());
+        for (OpenLoadGenerator generator : generators) {
+            samples.add(generator.sample());
+            generator.stop();
+        }
+        executor.shutdown();
+        report(samples);
+    }
+
+    private List<Scenario> scenarios() {
+        return List.of(
+            new Scenario("create-customer", config.customerRate(), this::createCustomer, r -> {}),
+            new Scenario("create-order", config.orderRate(), this::createOrder, this::orderCreated),
+            new Scenario("track-order", config.trackRate(), this::trackOrder, r -> {})
+        );
+    }
+
+    /**
+     * Creates a first order synchronously, so that the tracking scenario always has an order.
+     */
+    private void primeTrackingIds(HttpClient client) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+            createOrder(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(
+                "Order creation failed with status " + response.statusCode() + ": " +
+                response.body()
+            );
+        }
+        orderCreated(response);
+    }
+
+    private HttpRequest createCustomer() {
+        String userName = "load-" + sequence.incrementAndGet() + "-" + UUID.randomUUID();
+        ObjectNode customer = objectMapper
+            .createObjectNode()
+            .put("userName", userName)
+            .put("firstName", "Load")
+            .put("lastName", "Test");
+        return post(config.customerUrl().resolve("/api/v1/customers"), customer);
+    }
+
+    private HttpRequest createOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID customerId = data.customerIds().get(random.nextInt(data.customerIds().size()));
+        ObjectNode order = objectMapper
+            .createObjectNode()
+            .put("customerId", customerId.toString())
+            .put("restaurantId", data.restaurantId().toString())
+            .put("price", data.productPrice().multiply(BigDecimal.valueOf(ITEMS_PER_ORDER)));
+        ArrayNode items = order.putArray("items");
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            UUID productId = data.productIds().get(random.nextInt(data.productIds().size()));
+            items
+                .addObject()
+                .put("productId", productId.toString())
+                .put("quantity", 1)
+                .put("price", data.productPrice())
+                .put("totalPrice", data.productPrice());
+        }
+        order
+            .putObject("address")
+            .put("street", "1 Load Street")
+            .put("city", "Paris")
+            .put("zipCode", "75001")
+            .put("country", "France");
+        return post(config.orderUrl().resolve("/api/v1/orders"), order);
+    }
+
+    private void orderCreated(HttpResponse<String> response) {
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            int slot = (int) (createdOrders.getAndIncrement() % TRACKING_IDS);
+            trackingIds.set(slot, body.get("orderTrackingId").asText());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest trackOrder() {
+        int filled = (int) Math.min(createdOrders.get(), TRACKING_IDS);
+        String trackingId = trackingIds.get(ThreadLocalRandom.current().nextInt(filled));
+        return HttpRequest
+            .newBuilder(config.orderUrl().resolve("/api/v1/orders/" + trackingId))
+            .header("Accept", MEDIA_TYPE)
+            .GET()
+            .build();
+    }
+
+    private HttpRequest post(URI uri, JsonNode body) {
+        return HttpRequest
+            .newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .header("Accept", MEDIA_TYPE)
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+    }
+
+    private void report(List<OpenLoadGenerator.Sample> samples) throws IOException {
+        Files.createDirectories(config.reportDirectory());
+        double seconds = config.duration().toMillis() / 1000.0;
+        PrintStream out = System.out;
+        out.printf(
+            "%-16s %8s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+            "scenario",
+            "rate",
+            "req/s",
+            "errors",
+            "dropped",
+            "p50 ms",
+            "p90 ms",
+            "p99 ms",
+            "p99.9 ms",
+            "max ms"
+        );
+        for (OpenLoadGenerator.Sample sample : samples) {
+            Histogram latencies = sample.latencies();
+            out.printf(
+                "%-16s %8.1f %9.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                sample.scenario().name(),
+                sample.scenario().rate(),
+                latencies.getTotalCount() / seconds,
+                sample.errors(),
+                sample.dropped(),
+                latencies.getValueAtPercentile(50) / 1000.0,
+                latencies.getValueAtPercentile(90) / 1000.0,
+                latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getValueAtPercentile(99.9) / 1000.0,
+                latencies.getMaxValue() / 1000.0
+            );
+            try (
+                PrintStream file = new PrintStream(
+                    config.reportDirectory().resolve(sample.scenario().name() + ".hgrm").toFile()
+                )
+            ) {
+                // Microseconds recorded, milliseconds reported
+                latencies.outputPercentileDistribution(file, 1000.0);
+            }
+        }
+    }
+}
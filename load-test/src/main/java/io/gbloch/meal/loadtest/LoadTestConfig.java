@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of a load test run, read from the {@code meal.loadtest.*} system properties.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+record LoadTestConfig(
+    URI customerUrl,
+    URI orderUrl,
+    int customerDatabasePort,
+    int orderDatabasePort,
+    int paymentDatabasePort,
+    double customerRate,
+    double orderRate,
+    double trackRate,
+    Duration warmup,
+    Duration duration,
+    int maxInFlight,
+    Path reportDirectory
+) {
+    private static final String PREFIX = "meal.loadtest.";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            URI.create(property("customer.url", "http://localhost:8081")),
+            URI.create(property("order.url", "http://localhost:8082")),
+            Integer.parseInt(property("customer.db-port", "54331")),
+            Integer.parseInt(property("order.db-port", "54332")),
+            Integer.parseInt(property("payment.db-port", "54333")),
+            Double.parseDouble(property("customer.rate", "20")),
+            Double.parseDouble(property("order.rate", "50")),
+            Double.parseDouble(property("track.rate", "200")),
+            Duration.parse(property("warmup", "PT10S")),
+            Duration.parse(property("duration", "PT60S")),
+            Integer.parseInt(property("max-in-flight", "1000")),
+            Path.of(property("report-dir", "target/loadtest"))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reference data of the order service: the restaurant with its menu and the customers the orders
+ * are placed for. The order service only reads them, they are written straight to its database.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+record LoadTestData(
+    UUID restaurantId,
+    List<UUID> productIds,
+    BigDecimal productPrice,
+    List<UUID> customerIds
+) {
+    private static final int PRODUCTS = 20;
+    private static final int CUSTOMERS = 100;
+
+    static LoadTestData seed(int orderDatabasePort) throws SQLException {
+        LoadTestData data = new LoadTestData(
+            UUID.randomUUID(),
+            randomIds(PRODUCTS),
+            new BigDecimal("10.00"),
+            randomIds(CUSTOMERS)
+        );
+        String url = "jdbc:postgresql://localhost:" + orderDatabasePort + "/postgres";
+        try (Connection connection = DriverManager.getConnection(url, "postgres", "postgres")) {
+            connection.setAutoCommit(false);
+            data.insert(connection);
+            connection.commit();
+        }
+        return data;
+    }
+
+    private void insert(Connection connection) throws SQLException {
+        try (
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO order_restaurants (restaurant_id, active) VALUES (?, true)"
+            )
+        ) {
+            statement.setObject(1, restaurantId);
+            statement.executeUpdate();
+        }
+        try (
+            PreparedStatement products = connection.prepareStatement(
+                "INSERT INTO order_products (id, label, price) VALUES (?, ?, ?)"
+            );
+            PreparedStatement menu = connection.prepareStatement(
+                "INSERT INTO order_restaurant_products (restaurant_id, product_id) VALUES (?, ?)"
+            )
+        ) {
+            for (int i = 0; i < productIds.size(); i++) {
+                products.setObject(1, productIds.get(i));
+                products.setString(2, "product-" + i);
+                products.setBigDecimal(3, productPrice);
+                products.addBatch();
+                menu.setObject(1, restaurantId);
+                menu.setObject(2, productIds.get(i));
+                menu.addBatch();
+            }
+            products.executeBatch();
+            menu.executeBatch();
+        }
+        try (
+            PreparedStatement customers = connection.prepareStatement(
+                "INSERT INTO order_customers (id, user_name, first_name, last_name) " +
+                "VALUES (?, ?, 'Load', 'Test')"
+            )
+        ) {
+            for (UUID customerId : customerIds) {
+                customers.setObject(1, customerId);
+                customers.setString(2, "load-" + customerId);
+                customers.addBatch();
+            }
+            customers.executeBatch();
+        }
+    }
+
+    private static List<UUID> randomIds(int size) {
+        List<UUID> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts one embedded Postgres per service driven by the load test, on the ports the
+ * {@code loadtest} profile of the services connects to, and keeps them up until interrupted.
+ * <p>
+ * Logical replication is enabled for the Debezium connectors of the services.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class LoadTestDatabase {
+
+    private LoadTestDatabase() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        List<EmbeddedPostgres> databases = new ArrayList<>(3);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> close(databases)));
+        databases.add(start(config.customerDatabasePort()));
+        databases.add(start(config.orderDatabasePort()));
+        databases.add(start(config.paymentDatabasePort()));
+        System.out.printf(
+            "Customer database on port %d, order database on port %d, payment database on port " +
+            "%d, Ctrl+C to stop%n",
+            config.customerDatabasePort(),
+            config.orderDatabasePort(),
+            config.paymentDatabasePort()
+        );
+        Thread.currentThread().join();
+    }
+
+    static EmbeddedPostgres start(int port) throws IOException {
+        return EmbeddedPostgres
+            .builder()
+            .setPort(port)
+            .setCleanDataDirectory(true)
+            .setServerConfig("wal_level", "logical")
+            .setServerConfig("max_replication_slots", "4")
+            .setServerConfig("max_wal_senders", "4")
+            .setServerConfig("max_connections", "200")
+            .start();
+    }
+
+    private static void close(List<EmbeddedPostgres> databases) {
+        for (EmbeddedPostgres database : databases) {
+            try {
+                database.close();
+            } catch (IOException e) {
+                System.err.println("Could not stop the database: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Sends the requests of a {@link Scenario} following an open model: arrivals are scheduled at the
+ * scenario rate whatever the response times, as real clients would.
+ * <p>
+ * Latencies are measured from the scheduled start of each request, so that a stalled service
+ * shows up in the percentiles instead of silently slowing the generator down (coordinated
+ * omission). They are recorded in microseconds.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class OpenLoadGenerator implements Runnable {
+
+    private final Scenario scenario;
+    private final HttpClient client;
+    private final Semaphore inFlight;
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running = true;
+
+    OpenLoadGenerator(Scenario scenario, HttpClient client, int maxInFlight) {
+        this.scenario = scenario;
+        this.client = client;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public void run() {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.rate());
+        long start = System.nanoTime();
+        for (long i = 0; running; i++) {
+            long scheduled = start + i * interval;
+            long delay = scheduled - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            // Beyond the in-flight limit the service is saturated, count the arrival as dropped
+            if (!inFlight.tryAcquire()) {
+                dropped.increment();
+                continue;
+            }
+            client
+                .sendAsync(scenario.requests().get(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> {
+                    recorder.recordValue(
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled)
+                    );
+                    if (failure != null || response.statusCode() >= 400) {
+                        errors.increment();
+                    } else {
+                        scenario.responses().accept(response);
+                    }
+                    inFlight.release();
+                });
+        }
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    /**
+     * Returns the latencies recorded since the previous call and resets the error counters.
+     */
+    Sample sample() {
+        return new Sample(
+            scenario,
+            recorder.getIntervalHistogram(),
+            errors.sumThenReset(),
+            dropped.sumThenReset()
+        );
+    }
+
+    record Sample(Scenario scenario, Histogram latencies, long errors, long dropped) {}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A request type sent at a constant arrival rate, in requests per second.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+record Scenario(
+    String name,
+    double rate,
+    Supplier<HttpRequest> requests,
+    Consumer<HttpResponse<String>> responses
+) {}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time to first request and the resident memory of the services started in JVM and
+ * native mode.
+ * <p>
+ * Each run starts the packaged service with the {@code loadtest} profile, polls its metrics
+ * endpoint until it answers, then reads the resident set size of the process from
+ * {@code /proc} (Linux only) before stopping it. Run from the repository root once the services
+ * are packaged, with {@code -Pnative} for the native runners, and the databases of
+ * {@link LoadTestDatabase} up:
+ * <pre>
+ * mvn -pl load-test exec:java -Dloadtest.main=io.gbloch.meal.loadtest.StartupBenchmark \
+ *     -Dmeal.startup.services=order,payment -Dmeal.startup.modes=jvm,native
+ * </pre>
+ * Every run is written to {@code startup.csv} in the report directory.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public final class StartupBenchmark {
+
+    private static final String PREFIX = "meal.startup.";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+    private static final Map<String, Integer> PORTS = Map.of(
+        "customer",
+        8081,
+        "order",
+        8082,
+        "payment",
+        8083
+    );
+
+    private final Path root;
+    private final int runs;
+    private final Duration timeout;
+    private final HttpClient client = HttpClient
+        .newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofMillis(100))
+        .build();
+
+    private StartupBenchmark(Path root, int runs, Duration timeout) {
+        this.root = root;
+        this.runs = runs;
+        this.timeout = timeout;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        StartupBenchmark benchmark = new StartupBenchmark(
+            Path.of(property("root", ".")),
+            Integer.parseInt(property("runs", "5")),
+            Duration.parse(property("timeout", "PT60S"))
+        );
+        List<Run> results = new ArrayList<>();
+        for (String service : property("services", "order,payment").split(",")) {
+            for (String mode : property("modes", "jvm,native").split(",")) {
+                for (int i = 0; i < benchmark.runs; i++) {
+                    results.add(benchmark.run(service.trim(), mode.trim()));
+                }
+            }
+        }
+        report(results, Path.of(property("report-dir", "target/startup")));
+    }
+
+    private Run run(String service, String mode) throws IOException, InterruptedException {
+        Integer port = PORTS.get(service);
+        if (port == null) {
+            throw new IllegalArgumentException("Unknown service " + service);
+        }
+        URI probe = URI.create("http://localhost:" + port + "/q/metrics");
+        ProcessBuilder builder = new ProcessBuilder(command(service, mode))
+            .redirectErrorStream(true)
+            .redirectOutput(root.resolve(service + "/target/startup-" + mode + ".log").toFile());
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            awaitFirstResponse(process, probe, start);
+            long timeToFirstRequest = System.nanoTime() - start;
+            return new Run(
+                service,
+                mode,
+                TimeUnit.NANOSECONDS.toMillis(timeToFirstRequest),
+                residentSetKb(process.pid())
+            );
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private List<String> command(String service, String mode) throws IOException {
+        Path target = root.resolve(service).resolve("target");
+        if ("jvm".equals(mode)) {
+            return List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Dquarkus.profile=loadtest",
+                "-jar",
+                target.resolve("quarkus-app/quarkus-run.jar").toString()
+            );
+        }
+        if ("native".equals(mode)) {
+            try (Stream<Path> files = Files.list(target)) {
+                Path runner = files
+                    .filter(file -> file.getFileName().toString().endsWith("-runner"))
+                    .findFirst()
+                    .orElseThrow(() ->
+                        new IllegalStateException("No native runner in " + target)
+                    );
+                return List.of(runner.toString(), "-Dquarkus.profile=loadtest");
+            }
+        }
+        throw new IllegalArgumentException("Unknown mode " + mode);
+    }
+
+    private void awaitFirstResponse(Process process, URI probe, long start)
+        throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(1)).build();
+        long deadline = start + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(
+                    "Service exited with status " + process.exitValue() + " before serving " + probe
+                );
+            }
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                // Not listening yet
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+        }
+        throw new IllegalStateException("No response from " + probe + " within " + timeout);
+    }
+
+    /**
+     * Resident set size of the process in kilobytes, -1 when {@code /proc} is not available.
+     */
+    private static long residentSetKb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).replace("kB", "").trim())
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(-1);
+        }
+    }
+
+    private static void report(List<Run> results, Path reportDirectory) throws IOException {
+        Files.createDirectories(reportDirectory);
+        PrintStream out = System.out;
+        out.printf(
+            "%-10s %-7s %5s %12s %12s %12s %12s%n",
+            "service",
+            "mode",
+            "runs",
+            "p50 ms",
+            "min ms",
+            "max ms",
+            "p50 RSS MB"
+        );
+        results
+            .stream()
+            .map(run -> run.service() + "/" + run.mode())
+            .distinct()
+            .forEach(key -> {
+                List<Run> group = results
+                    .stream()
+                    .filter(run -> key.equals(run.service() + "/" + run.mode()))
+                    .toList();
+                long[] times = group
+                    .stream()
+                    .mapToLong(Run::timeToFirstRequestMs)
+                    .sorted()
+                    .toArray();
+                long[] rss = group.stream().mapToLong(Run::residentSetKb).sorted().toArray();
+                out.printf(
+                    "%-10s %-7s %5d %12d %12d %12d %12.1f%n",
+                    group.get(0).service(),
+                    group.get(0).mode(),
+                    group.size(),
+                    times[times.length / 2],
+                    times[0],
+                    times[times.length - 1],
+                    rss[rss.length / 2] / 1024.0
+                );
+            });
+        try (PrintStream file = new PrintStream(reportDirectory.resolve("startup.csv").toFile())) {
+            file.println("service,mode,time_to_first_request_ms,rss_kb");
+            for (Run run : results) {
+                file.printf(
+                    "%s,%s,%d,%d%n",
+                    run.service(),
+                    run.mode(),
+                    run.timeToFirstRequestMs(),
+                    run.residentSetKb()
+                );
+            }
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private record Run(
+        String service,
+        String mode,
+        long timeToFirstRequestMs,
+        long residentSetKb
+    ) {}
+}
@@ -16,8 +16,10 @@
 
 package io.gbloch.meal.order.application.cqrs.command;
 
+import io.gbloch.meal.application.error.ResourceNotFoundException;
 import io.gbloch.meal.application.unitofwork.UnitOfWork;
 import io.gbloch.meal.domain.vo.CustomerId;
+import io.gbloch.meal.infrastructure.concurrency.ConcurrencyLimited;
 import io.gbloch.meal.order.application.dto.create.CreateOrderCommand;
 import io.gbloch.meal.order.application.dto.create.CreateOrderResponse;
 import io.gbloch.meal.order.application.error.OrderApplicationException;
@@ -60,6 +62,7 @@ final class OrderCommandHandler implements CreateOrderUseCase {
     private final OrderMapper orderMapper;
 
     @Transactional
+    @ConcurrencyLimited("create-order")
     public CreateOrderResponse createOrder(CreateOrderCommand command) {
         checkIfCustomerExists(command.customerId());
         var restaurant = getRestaurant(command);
@@ -84,7 +87,7 @@ final class OrderCommandHandler implements CreateOrderUseCase {
         Optional<Customer> customer = customerRepository.findById(new CustomerId(uuid));
         if (customer.isEmpty()) {
             log.warn("Customer with id {} does not exist", uuid);
-            throw new OrderApplicationException("Customer with id " + uuid + " does not exist");
+            throw new ResourceNotFoundException("Customer with id " + uuid + " does not exist");
         }
     }
 
@@ -93,7 +96,7 @@ final class OrderCommandHandler implements CreateOrderUseCase {
         return restaurantRepository
             .findById(restaurant.getId())
             .orElseThrow(() ->
-                new OrderApplicationException(
+                new ResourceNotFoundException(
                     "Restaurant with id " + restaurant.getId() + " does not exist"
                 )
             );
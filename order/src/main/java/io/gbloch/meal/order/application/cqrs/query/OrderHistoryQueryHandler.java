@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.application.cqrs.query;
+
+import io.gbloch.meal.core.validation.Validation;
+import io.gbloch.meal.domain.vo.CustomerId;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryCursor;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryPage;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryQuery;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryResponse;
+import io.gbloch.meal.order.application.port.input.order.GetOrderHistoryUseCase;
+import io.gbloch.meal.order.application.port.output.repository.OrderRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OrderHistoryQueryHandler.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+final class OrderHistoryQueryHandler implements GetOrderHistoryUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final OrderRepository orderRepository;
+
+    @Override
+    @Transactional
+    public OrderHistoryResponse getOrderHistory(OrderHistoryQuery query) {
+        Validation.min("limit", query.limit(), 1);
+        Validation.max("limit", query.limit(), MAX_LIMIT);
+        OrderHistoryPage page = orderRepository.findHistory(
+            new CustomerId(query.customerId()),
+            query.after() == null ? null : OrderHistoryCursor.decode(query.after()),
+            query.limit()
+        );
+        return OrderHistoryResponse
+            .builder()
+            .orders(page.orders())
+            .next(page.next() == null ? null : page.next().encode())
+            .build();
+    }
+}
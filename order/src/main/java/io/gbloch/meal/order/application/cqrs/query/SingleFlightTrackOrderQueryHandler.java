@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.application.cqrs.query;
+
+import io.gbloch.meal.core.concurrency.SingleFlight;
+import io.gbloch.meal.order.application.dto.track.TrackOrderQuery;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.application.port.input.order.TrackOrderUseCase;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import java.time.Duration;
+import java.util.UUID;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Single-flight front of the {@link TrackOrderUseCase}.
+ * <p>
+ * Clients polling the same tracking id at the same time share one {@link TrackOrderQueryHandler}
+ * call, and its result for {@code meal.single-flight.ttl} after it completes. Only the caller
+ * running the query opens a transaction, the others wait without holding a connection.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@Alternative
+@Priority(1)
+@IfBuildProperty(name = "meal.single-flight.enabled", stringValue = "true", enableIfMissing = true)
+final class SingleFlightTrackOrderQueryHandler implements TrackOrderUseCase {
+
+    private final TrackOrderQueryHandler trackOrderQueryHandler;
+    private final SingleFlight<UUID, TrackOrderResponse> singleFlight;
+
+    SingleFlightTrackOrderQueryHandler(
+        TrackOrderQueryHandler trackOrderQueryHandler,
+        @ConfigProperty(name = "meal.single-flight.ttl", defaultValue = "50ms") Duration ttl
+    ) {
+        this.trackOrderQueryHandler = trackOrderQueryHandler;
+        this.singleFlight = new SingleFlight<>(ttl);
+    }
+
+    @Override
+    public TrackOrderResponse trackOrder(TrackOrderQuery query) {
+        return singleFlight.execute(
+            query.orderTrackingId(),
+            () -> trackOrderQueryHandler.trackOrder(query)
+        );
+    }
+}
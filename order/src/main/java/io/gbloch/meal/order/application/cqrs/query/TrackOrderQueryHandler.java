@@ -16,16 +16,16 @@
 
 package io.gbloch.meal.order.application.cqrs.query;
 
+import io.gbloch.meal.application.error.ResourceNotFoundException;
 import io.gbloch.meal.order.application.dto.track.TrackOrderQuery;
 import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
-import io.gbloch.meal.order.application.error.OrderApplicationException;
-import io.gbloch.meal.order.application.mapper.OrderMapper;
 import io.gbloch.meal.order.application.port.input.order.TrackOrderUseCase;
 import io.gbloch.meal.order.application.port.output.repository.OrderRepository;
 import io.gbloch.meal.order.domain.vo.TrackingId;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -40,18 +40,18 @@ final class TrackOrderQueryHandler implements TrackOrderUseCase {
 
     private final OrderRepository orderRepository;
 
-    private final OrderMapper orderMapper;
-
     @Override
     @Transactional
     public TrackOrderResponse trackOrder(TrackOrderQuery query) {
-        var order = orderRepository
-            .findByTrackingId(new TrackingId(query.orderTrackingId()))
+        // Polled on every dashboard refresh: the status projection, not the aggregate
+        return orderRepository
+            .findStatusesByTrackingIds(List.of(new TrackingId(query.orderTrackingId())))
+            .stream()
+            .findFirst()
             .orElseThrow(() ->
-                new OrderApplicationException(
+                new ResourceNotFoundException(
                     "Order for tracking ID " + query.orderTrackingId() + " not found"
                 )
             );
-        return orderMapper.toTrackOrderResponse(order);
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.application.cqrs.query;
+
+import io.gbloch.meal.core.validation.Validation;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersQuery;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersResponse;
+import io.gbloch.meal.order.application.port.input.order.TrackOrdersUseCase;
+import io.gbloch.meal.order.application.port.output.repository.OrderRepository;
+import io.gbloch.meal.order.domain.vo.TrackingId;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TrackOrdersQueryHandler.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+final class TrackOrdersQueryHandler implements TrackOrdersUseCase {
+
+    static final int MAX_TRACKING_IDS = 100;
+
+    private final OrderRepository orderRepository;
+
+    @Override
+    @Transactional
+    public TrackOrdersResponse trackOrders(TrackOrdersQuery query) {
+        // An empty request body is bound to a null query
+        Validation.notNull("query", query);
+        Validation.notEmpty("orderTrackingIds", query.orderTrackingIds());
+        Validation.noNullElement("orderTrackingIds", query.orderTrackingIds());
+        Validation.maxSize("orderTrackingIds", query.orderTrackingIds(), MAX_TRACKING_IDS);
+        // A dashboard may track the same order twice, it is returned once
+        Set<UUID> trackingIds = new LinkedHashSet<>(query.orderTrackingIds());
+        Map<UUID, TrackOrderResponse> statuses = orderRepository
+            .findStatusesByTrackingIds(trackingIds.stream().map(TrackingId::new).toList())
+            .stream()
+            .collect(
+                Collectors.toMap(TrackOrderResponse::orderTrackingId, Function.identity())
+            );
+        List<TrackOrderResponse> orders = new ArrayList<>(statuses.size());
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID trackingId : trackingIds) {
+            TrackOrderResponse status = statuses.get(trackingId);
+            if (status == null) {
+                notFound.add(trackingId);
+            } else {
+                orders.add(status);
+            }
+        }
+        return TrackOrdersResponse.builder().orders(orders).notFound(notFound).build();
+    }
+}
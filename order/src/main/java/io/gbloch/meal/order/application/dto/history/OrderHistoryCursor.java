@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.application.dto.history;
+
+import io.gbloch.meal.application.error.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the order history of a customer: the creation time and id of the last order of a
+ * page, the orders of the next page come strictly before it. Encoded as an opaque URL-safe
+ * string.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public record OrderHistoryCursor(Instant createdAt, UUID orderId) {
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String cursor = createdAt.toString() + SEPARATOR + orderId;
+        return Base64
+            .getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(cursor.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static OrderHistoryCursor decode(String encoded) {
+        try {
+            String cursor = new String(
+                Base64.getUrlDecoder().decode(encoded),
+                StandardCharsets.US_ASCII
+            );
+            int separator = cursor.indexOf(SEPARATOR);
+            return new OrderHistoryCursor(
+                Instant.parse(cursor.substring(0, separator)),
+                UUID.fromString(cursor.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new InvalidRequestException("Invalid order history cursor: " + encoded);
+        }
+    }
+}
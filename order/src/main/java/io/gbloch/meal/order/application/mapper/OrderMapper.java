@@ -16,16 +16,22 @@
 
 package io.gbloch.meal.order.application.mapper;
 
+import io.gbloch.meal.domain.vo.ActiveType;
 import io.gbloch.meal.domain.vo.Address;
 import io.gbloch.meal.domain.vo.CustomerId;
+import io.gbloch.meal.domain.vo.IdGenerator;
+import io.gbloch.meal.domain.vo.Identity;
 import io.gbloch.meal.domain.vo.Money;
 import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.domain.vo.ProductLabel;
 import io.gbloch.meal.domain.vo.Quantity;
 import io.gbloch.meal.domain.vo.RestaurantId;
 import io.gbloch.meal.order.application.dto.create.CreateOrderCommand;
 import io.gbloch.meal.order.application.dto.create.CreateOrderResponse;
 import io.gbloch.meal.order.application.dto.create.OrderAddress;
-import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.application.dto.message.CustomerResponse;
+import io.gbloch.meal.order.application.dto.message.RestaurantCatalogResponse;
+import io.gbloch.meal.order.domain.entity.Customer;
 import io.gbloch.meal.order.domain.entity.Order;
 import io.gbloch.meal.order.domain.entity.OrderItem;
 import io.gbloch.meal.order.domain.entity.Product;
@@ -58,6 +64,32 @@ public final class OrderMapper {
             .build();
     }
 
+    /**
+     * Keeps the available products only, so that ordering an unavailable product fails validation.
+     */
+    public Restaurant toRestaurant(RestaurantCatalogResponse restaurantCatalogResponse) {
+        return Restaurant
+            .builder()
+            .id(new RestaurantId(UUID.fromString(restaurantCatalogResponse.restaurantId())))
+            .active(ActiveType.mapBoolean(restaurantCatalogResponse.active()))
+            .products(
+                restaurantCatalogResponse
+                    .products()
+                    .stream()
+                    .filter(RestaurantCatalogResponse.CatalogProduct::available)
+                    .map(product ->
+                        Product
+                            .builder()
+                            .productId(new ProductId(UUID.fromString(product.id())))
+                            .label(new ProductLabel(product.label()))
+                            .price(new Money(product.price()))
+                            .build()
+                    )
+                    .collect(Collectors.toSet())
+            )
+            .build();
+    }
+
     public Order toOrder(CreateOrderCommand createOrderCommand) {
         return Order
             .builder()
@@ -88,7 +120,7 @@ public final class OrderMapper {
 
     private Address toAddress(OrderAddress address) {
         return new Address(
-            UUID.randomUUID(),
+            IdGenerator.next(),
             address.street(),
             address.city(),
             address.zipCode(),
@@ -105,12 +137,17 @@ public final class OrderMapper {
             .build();
     }
 
-    public TrackOrderResponse toTrackOrderResponse(Order order) {
-        return TrackOrderResponse
+    public Customer toCustomer(CustomerResponse customerResponse) {
+        return Customer
             .builder()
-            .orderTrackingId(order.getTrackingId().getValue())
-            .orderStatus(order.getStatus())
-            .errorMessages(order.getErrors().messages())
+            .id(new CustomerId(UUID.fromString(customerResponse.id())))
+            .identity(
+                new Identity(
+                    customerResponse.userName(),
+                    customerResponse.firstName(),
+                    customerResponse.lastName()
+                )
+            )
             .build();
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.application.message;
+
+import io.gbloch.meal.order.application.dto.message.CustomerResponse;
+import io.gbloch.meal.order.application.mapper.OrderMapper;
+import io.gbloch.meal.order.application.port.input.customer.CustomerCreatedUseCase;
+import io.gbloch.meal.order.application.port.output.repository.CustomerRepository;
+import io.gbloch.meal.order.domain.entity.Customer;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+/**
+ * Keeps the local customer replicas of the order service in sync with the customers topic.
+ *
+ * <p>Records are consumed in batches and upserted in one transaction; the batch is acknowledged,
+ * and its offsets committed, only once the transaction has committed.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public final class CustomerMessageListener implements CustomerCreatedUseCase {
+
+    private final CustomerRepository customerRepository;
+
+    private final OrderMapper orderMapper;
+
+    @Override
+    @Incoming("customer-replicas")
+    @Blocking(ordered = true)
+    @Transactional
+    public void customersCreated(List<CustomerResponse> responses) {
+        // A customer appearing twice in a batch can only be upserted once per statement
+        Map<String, Customer> customers = new LinkedHashMap<>();
+        for (CustomerResponse response : responses) {
+            customers.put(response.id(), orderMapper.toCustomer(response));
+        }
+        customerRepository.upsertAll(customers.values());
+        log.info("Replicated {} customers from {} records", customers.size(), responses.size());
+    }
+}
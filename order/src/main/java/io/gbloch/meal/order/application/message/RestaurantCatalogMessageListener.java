@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.application.message;
+
+import io.gbloch.meal.order.application.dto.message.RestaurantCatalogResponse;
+import io.gbloch.meal.order.application.mapper.OrderMapper;
+import io.gbloch.meal.order.application.port.input.restaurant.RestaurantCatalogChangedUseCase;
+import io.gbloch.meal.order.application.port.output.repository.RestaurantRepository;
+import io.gbloch.meal.order.domain.entity.Restaurant;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+/**
+ * Replicates the restaurant catalogs published by the restaurant service into the restaurant and
+ * product tables of the order service.
+ *
+ * <p>Snapshots are keyed by restaurant id, so the snapshots of a restaurant come in order from a
+ * single partition; within a batch only the latest snapshot of each restaurant is stored. The
+ * batch is acknowledged once its transaction has committed.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public final class RestaurantCatalogMessageListener implements RestaurantCatalogChangedUseCase {
+
+    private final RestaurantRepository restaurantRepository;
+
+    private final OrderMapper orderMapper;
+
+    @Override
+    @Incoming("restaurant-catalogs")
+    @Blocking(ordered = true)
+    @Transactional
+    public void restaurantCatalogsChanged(List<RestaurantCatalogResponse> responses) {
+        Map<String, Restaurant> restaurants = new LinkedHashMap<>();
+        for (RestaurantCatalogResponse response : responses) {
+            restaurants.put(response.restaurantId(), orderMapper.toRestaurant(response));
+        }
+        restaurantRepository.upsertAll(restaurants.values());
+        log.info(
+            "Replicated {} restaurant catalogs from {} records",
+            restaurants.size(),
+            responses.size()
+        );
+    }
+}
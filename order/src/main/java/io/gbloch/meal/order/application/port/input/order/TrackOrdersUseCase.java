@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.application.port.input.order;
+
+import io.gbloch.meal.order.application.dto.track.TrackOrdersQuery;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersResponse;
+
+/**
+ * TrackOrdersUseCase.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+public interface TrackOrdersUseCase {
+    TrackOrdersResponse trackOrders(TrackOrdersQuery query);
+}
@@ -19,6 +19,7 @@ package io.gbloch.meal.order.application.port.output.repository;
 import io.gbloch.meal.application.port.output.repository.Repository;
 import io.gbloch.meal.domain.vo.CustomerId;
 import io.gbloch.meal.order.domain.entity.Customer;
+import java.util.Collection;
 
 /**
  * CustomerRepository.
@@ -26,4 +27,9 @@ import io.gbloch.meal.order.domain.entity.Customer;
  * @author Gaëtan Bloch
  * <br>Created on 13/05/2023
  */
-public interface CustomerRepository extends Repository<CustomerId, Customer> {}
+public interface CustomerRepository extends Repository<CustomerId, Customer> {
+    /**
+     * Inserts the customers, or updates the ones already replicated. Ids must be unique.
+     */
+    void upsertAll(Collection<Customer> customers);
+}
@@ -17,10 +17,15 @@
 package io.gbloch.meal.order.application.port.output.repository;
 
 import io.gbloch.meal.application.port.output.repository.Repository;
+import io.gbloch.meal.domain.vo.CustomerId;
 import io.gbloch.meal.domain.vo.OrderId;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryCursor;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryPage;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
 import io.gbloch.meal.order.domain.entity.Order;
 import io.gbloch.meal.order.domain.vo.TrackingId;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * OrderRepository.
@@ -29,5 +34,15 @@ import java.util.Optional;
  * <br>Created on 13/05/2023
  */
 public interface OrderRepository extends Repository<OrderId, Order> {
-    Optional<Order> findByTrackingId(TrackingId trackingId);
+    /**
+     * Finds the status of the orders with the given tracking ids in a single query, in no
+     * particular order. Unknown tracking ids are absent from the result.
+     */
+    List<TrackOrderResponse> findStatusesByTrackingIds(Collection<TrackingId> trackingIds);
+
+    /**
+     * Finds at most {@code limit} orders of the customer created before the cursor, newest first,
+     * from the start of the history when the cursor is {@code null}.
+     */
+    OrderHistoryPage findHistory(CustomerId customerId, OrderHistoryCursor after, int limit);
 }
@@ -19,6 +19,7 @@ package io.gbloch.meal.order.application.port.output.repository;
 import io.gbloch.meal.application.port.output.repository.Repository;
 import io.gbloch.meal.domain.vo.RestaurantId;
 import io.gbloch.meal.order.domain.entity.Restaurant;
+import java.util.Collection;
 
 /**
  * RestaurantRepository.
@@ -26,4 +27,10 @@ import io.gbloch.meal.order.domain.entity.Restaurant;
  * @author Gaëtan Bloch
  * <br>Created on 13/05/2023
  */
-public interface RestaurantRepository extends Repository<RestaurantId, Restaurant> {}
+public interface RestaurantRepository extends Repository<RestaurantId, Restaurant> {
+    /**
+     * Replaces the replicas of the restaurants, their products and their association. Ids must be
+     * unique.
+     */
+    void upsertAll(Collection<Restaurant> restaurants);
+}
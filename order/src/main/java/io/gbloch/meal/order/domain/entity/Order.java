@@ -29,7 +29,6 @@ import io.gbloch.meal.order.domain.error.OrderDomainException;
 import io.gbloch.meal.order.domain.vo.OrderItemId;
 import io.gbloch.meal.order.domain.vo.TrackingId;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.Getter;
 
@@ -53,8 +52,6 @@ public final class Order extends EntityBase<OrderId> {
     private OrderStatus status;
     private ErrorMessages errors;
 
-    public static final String FAILURE_MESSAGE_DELIMITER = ",";
-
     private Order(OrderBuilder builder) {
         super(builder.id);
         this.customerId = builder.customerId;
@@ -79,7 +76,7 @@ public final class Order extends EntityBase<OrderId> {
 
     public void initialize() {
         setId(new OrderId());
-        trackingId = new TrackingId(UUID.randomUUID());
+        trackingId = new TrackingId();
         this.status = OrderStatus.PENDING;
 
         initializeItems();
@@ -17,7 +17,8 @@
 package io.gbloch.meal.order.domain.event;
 
 import io.gbloch.meal.domain.event.DomainEvent;
-import io.gbloch.meal.domain.event.EventHeader;
+import io.gbloch.meal.domain.event.EventHeaderFactory;
+import io.gbloch.meal.domain.event.EventSourceType;
 import io.gbloch.meal.order.domain.entity.Order;
 
 /**
@@ -33,6 +34,6 @@ public final class OrderCancelledEvent extends DomainEvent<Order> {
     public OrderCancelledEvent(Order payload) {
         this.setName(ORDER_CANCELLED_EVENT);
         this.setPayload(payload);
-        this.setHeader(EventHeader.of());
+        this.setHeader(EventHeaderFactory.forSource(EventSourceType.ORDER).create());
     }
 }
@@ -17,7 +17,8 @@
 package io.gbloch.meal.order.domain.event;
 
 import io.gbloch.meal.domain.event.DomainEvent;
-import io.gbloch.meal.domain.event.EventHeader;
+import io.gbloch.meal.domain.event.EventHeaderFactory;
+import io.gbloch.meal.domain.event.EventSourceType;
 import io.gbloch.meal.order.domain.entity.Order;
 
 /**
@@ -33,6 +34,6 @@ public final class OrderPaidEvent extends DomainEvent<Order> {
     public OrderPaidEvent(Order payload) {
         this.setName(ORDER_PAID_EVENT);
         this.setPayload(payload);
-        this.setHeader(EventHeader.of());
+        this.setHeader(EventHeaderFactory.forSource(EventSourceType.ORDER).create());
     }
 }
@@ -29,9 +29,13 @@ import java.util.UUID;
 @ValueObject
 public record Address(UUID id, String street, String city, String zipCode, String country) {
     public Address {
-        Validation.field("street", street).notBlank().maxLength(255);
-        Validation.field("city", city).notBlank().maxLength(255);
-        Validation.field("zipCode", zipCode).notBlank().maxLength(10);
-        Validation.field("country", country).notBlank().maxLength(255);
+        Validation.notBlank("street", street);
+        Validation.maxLength("street", street, 255);
+        Validation.notBlank("city", city);
+        Validation.maxLength("city", city, 255);
+        Validation.notBlank("zipCode", zipCode);
+        Validation.maxLength("zipCode", zipCode, 10);
+        Validation.notBlank("country", country);
+        Validation.maxLength("country", country, 255);
     }
 }
@@ -18,6 +18,7 @@ package io.gbloch.meal.order.domain.vo;
 
 import io.gbloch.meal.core.annotations.ddd.ValueObject;
 import io.gbloch.meal.domain.vo.IdBase;
+import io.gbloch.meal.domain.vo.IdGenerator;
 import java.util.UUID;
 
 /**
@@ -34,6 +35,6 @@ public final class CustomerId extends IdBase<UUID> {
     }
 
     public CustomerId() {
-        super(UUID.randomUUID());
+        super(IdGenerator.next());
     }
 }
@@ -17,6 +17,7 @@
 package io.gbloch.meal.order.domain.vo;
 
 import io.gbloch.meal.domain.vo.IdBase;
+import io.gbloch.meal.domain.vo.IdGenerator;
 import java.util.UUID;
 
 /**
@@ -32,6 +33,6 @@ public final class RestaurantId extends IdBase<UUID> {
     }
 
     public RestaurantId() {
-        super(UUID.randomUUID());
+        super(IdGenerator.next());
     }
 }
@@ -30,4 +30,12 @@ public final class TrackingId extends IdBase<UUID> {
     public TrackingId(UUID value) {
         super(value);
     }
+
+    /**
+     * Tracking ids are handed out to customers, so they stay fully random: a time-ordered id would
+     * disclose when the order was placed and make the ids of neighbouring orders guessable.
+     */
+    public TrackingId() {
+        super(UUID.randomUUID());
+    }
 }
@@ -23,6 +23,8 @@ import io.gbloch.meal.order.infrastucture.entity.OrderCustomerEntity;
 import io.gbloch.meal.order.infrastucture.mapper.CustomerMapper;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
@@ -37,6 +39,15 @@ import lombok.RequiredArgsConstructor;
 public final class CustomerRepositoryImpl
     implements CustomerRepository, PanacheRepository<OrderCustomerEntity> {
 
+    private static final String UPSERT_INSERT =
+        "INSERT INTO order_customers (id, user_name, first_name, last_name) VALUES ";
+    private static final String UPSERT_CONFLICT =
+        " ON CONFLICT (id) DO UPDATE SET user_name = EXCLUDED.user_name, " +
+        "first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name " +
+        "WHERE (order_customers.user_name, order_customers.first_name, " +
+        "order_customers.last_name) IS DISTINCT FROM " +
+        "(EXCLUDED.user_name, EXCLUDED.first_name, EXCLUDED.last_name)";
+
     private final CustomerMapper customerMapper;
 
     @Override
@@ -50,4 +61,21 @@ public final class CustomerRepositoryImpl
     public Optional<Customer> findById(CustomerId id) {
         return this.find("id", id.getValue()).firstResultOptional().map(customerMapper::toCustomer);
     }
+
+    @Override
+    public void upsertAll(Collection<Customer> customers) {
+        MultiRowStatements.execute(
+            this.getEntityManager(),
+            UPSERT_INSERT,
+            UPSERT_CONFLICT,
+            new ArrayList<>(customers),
+            customer ->
+                new Object[] {
+                    customer.getId().getValue(),
+                    customer.getIdentity().userName(),
+                    customer.getIdentity().firstName(),
+                    customer.getIdentity().lastName()
+                }
+        );
+    }
 }
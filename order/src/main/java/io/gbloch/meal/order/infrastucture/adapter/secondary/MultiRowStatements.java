@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.infrastucture.adapter.secondary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Multi-row native statements, such as {@code INSERT ... VALUES (...), (...) ON CONFLICT}, split
+ * in chunks of rows to stay well below the bind parameter limit of a statement.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class MultiRowStatements {
+
+    static final int MAX_ROWS = 500;
+
+    private MultiRowStatements() {}
+
+    /**
+     * Executes {@code prefix}, the rows as a list of positional parameter tuples, then
+     * {@code suffix}.
+     */
+    static <T> void execute(
+        EntityManager entityManager,
+        String prefix,
+        String suffix,
+        List<T> rows,
+        Function<T, Object[]> columns
+    ) {
+        for (int from = 0; from < rows.size(); from += MAX_ROWS) {
+            List<T> chunk = rows.subList(from, Math.min(from + MAX_ROWS, rows.size()));
+            List<Object[]> values = new ArrayList<>(chunk.size());
+            for (T row : chunk) {
+                values.add(columns.apply(row));
+            }
+            StringBuilder sql = new StringBuilder(prefix);
+            int parameter = 0;
+            for (int i = 0; i < values.size(); i++) {
+                sql.append(i == 0 ? "(" : ", (");
+                for (int column = 0; column < values.get(i).length; column++) {
+                    sql.append(column == 0 ? "?" : ", ?").append(++parameter);
+                }
+                sql.append(')');
+            }
+            sql.append(suffix);
+            Query query = entityManager.createNativeQuery(sql.toString());
+            parameter = 0;
+            for (Object[] row : values) {
+                for (Object value : row) {
+                    query.setParameter(++parameter, value);
+                }
+            }
+            query.executeUpdate();
+        }
+    }
+}
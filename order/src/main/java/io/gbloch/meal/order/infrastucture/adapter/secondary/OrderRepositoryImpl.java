@@ -16,15 +16,30 @@
 
 package io.gbloch.meal.order.infrastucture.adapter.secondary;
 
+import io.gbloch.meal.domain.vo.CustomerId;
 import io.gbloch.meal.domain.vo.OrderId;
+import io.gbloch.meal.domain.vo.OrderStatus;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryCursor;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryPage;
+import io.gbloch.meal.order.application.dto.history.OrderSummary;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
 import io.gbloch.meal.order.application.port.output.repository.OrderRepository;
 import io.gbloch.meal.order.domain.entity.Order;
 import io.gbloch.meal.order.domain.vo.TrackingId;
 import io.gbloch.meal.order.infrastucture.entity.OrderEntity;
+import io.gbloch.meal.order.infrastucture.entity.OrderHistoryRow;
+import io.gbloch.meal.order.infrastucture.entity.OrderStatusRow;
 import io.gbloch.meal.order.infrastucture.mapper.OrderMapper;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Parameters;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -41,20 +56,79 @@ public final class OrderRepositoryImpl implements OrderRepository, PanacheReposi
 
     @Override
     public Optional<Order> save(Order order) {
-        var orderEntity = this.orderMapper.toOrderEntity(order);
-        this.persist(orderEntity);
-        return Optional.of(this.orderMapper.toOrder(orderEntity));
+        this.persist(this.orderMapper.toOrderEntity(order));
+        // The aggregate is already up-to-date, no need to map the persisted entity back
+        return Optional.of(order);
     }
 
     @Override
     public Optional<Order> findById(OrderId id) {
-        return this.find("id", id.getValue()).firstResultOptional().map(this.orderMapper::toOrder);
+        return this.find("#" + OrderEntity.FIND_BY_ID, Parameters.with("id", id.getValue()))
+            .singleResultOptional()
+            .map(this.orderMapper::toOrder);
     }
 
     @Override
-    public Optional<Order> findByTrackingId(TrackingId trackingId) {
-        return this.find("trackingId", trackingId.getValue())
-            .firstResultOptional()
-            .map(this.orderMapper::toOrder);
+    public List<TrackOrderResponse> findStatusesByTrackingIds(Collection<TrackingId> trackingIds) {
+        if (trackingIds.isEmpty()) {
+            return List.of();
+        }
+        UUID[] values = trackingIds.stream().map(TrackingId::getValue).toArray(UUID[]::new);
+        return getEntityManager()
+            .createNamedQuery(OrderEntity.FIND_STATUSES_BY_TRACKING_IDS, OrderStatusRow.class)
+            .setParameter("trackingIds", values)
+            .getResultList()
+            .stream()
+            .map(OrderRepositoryImpl::toTrackOrderResponse)
+            .toList();
+    }
+
+    @Override
+    public OrderHistoryPage findHistory(
+        CustomerId customerId,
+        OrderHistoryCursor after,
+        int limit
+    ) {
+        TypedQuery<OrderHistoryRow> query = getEntityManager()
+            .createNamedQuery(
+                after == null ? OrderEntity.FIND_HISTORY : OrderEntity.FIND_HISTORY_AFTER,
+                OrderHistoryRow.class
+            )
+            .setParameter("customerId", customerId.getValue());
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt()).setParameter("id", after.orderId());
+        }
+        // One extra row tells whether there is a next page
+        return toHistoryPage(query.setMaxResults(limit + 1).getResultList(), limit);
+    }
+
+    static OrderHistoryPage toHistoryPage(List<OrderHistoryRow> rows, int limit) {
+        List<OrderHistoryRow> page = rows.size() > limit ? rows.subList(0, limit) : rows;
+        OrderHistoryCursor next = null;
+        if (rows.size() > limit) {
+            OrderHistoryRow last = page.get(page.size() - 1);
+            next = new OrderHistoryCursor(last.createdAt(), last.id());
+        }
+        return new OrderHistoryPage(
+            page.stream().map(OrderRepositoryImpl::toOrderSummary).toList(),
+            next
+        );
+    }
+
+    static TrackOrderResponse toTrackOrderResponse(OrderStatusRow row) {
+        return TrackOrderResponse
+            .builder()
+            .orderTrackingId(row.trackingId())
+            .orderStatus(OrderStatus.valueOf(row.orderStatus()))
+            .errorMessages(
+                row.failureMessages() == null
+                    ? List.of()
+                    : Stream.of(row.failureMessages()).filter(Objects::nonNull).toList()
+            )
+            .build();
+    }
+
+    private static OrderSummary toOrderSummary(OrderHistoryRow row) {
+        return new OrderSummary(row.trackingId(), row.orderStatus(), row.price(), row.createdAt());
     }
 }
@@ -16,14 +16,22 @@
 
 package io.gbloch.meal.order.infrastucture.adapter.secondary;
 
+import io.gbloch.meal.domain.vo.ActiveType;
 import io.gbloch.meal.domain.vo.RestaurantId;
 import io.gbloch.meal.order.application.port.output.repository.RestaurantRepository;
+import io.gbloch.meal.order.domain.entity.Product;
 import io.gbloch.meal.order.domain.entity.Restaurant;
 import io.gbloch.meal.order.infrastucture.entity.OrderRestaurantEntity;
 import io.gbloch.meal.order.infrastucture.mapper.RestaurantMapper;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -37,6 +45,22 @@ import lombok.RequiredArgsConstructor;
 public final class RestaurantRepositoryImpl
     implements RestaurantRepository, PanacheRepository<OrderRestaurantEntity> {
 
+    private static final String UPSERT_PRODUCTS_INSERT =
+        "INSERT INTO order_products (id, label, price) VALUES ";
+    private static final String UPSERT_PRODUCTS_CONFLICT =
+        " ON CONFLICT (id) DO UPDATE SET label = EXCLUDED.label, price = EXCLUDED.price " +
+        "WHERE (order_products.label, order_products.price) IS DISTINCT FROM " +
+        "(EXCLUDED.label, EXCLUDED.price)";
+    private static final String UPSERT_RESTAURANTS_INSERT =
+        "INSERT INTO order_restaurants (restaurant_id, active) VALUES ";
+    private static final String UPSERT_RESTAURANTS_CONFLICT =
+        " ON CONFLICT (restaurant_id) DO UPDATE SET active = EXCLUDED.active " +
+        "WHERE order_restaurants.active IS DISTINCT FROM EXCLUDED.active";
+    private static final String DELETE_RESTAURANT_PRODUCTS =
+        "DELETE FROM order_restaurant_products WHERE restaurant_id IN (:restaurantIds)";
+    private static final String INSERT_RESTAURANT_PRODUCTS =
+        "INSERT INTO order_restaurant_products (restaurant_id, product_id) VALUES ";
+
     private final RestaurantMapper mapper;
 
     @Override
@@ -48,4 +72,59 @@ public final class RestaurantRepositoryImpl
     public Optional<Restaurant> findById(RestaurantId id) {
         return find("id", id).firstResultOptional().map(mapper::toRestaurant);
     }
+
+    @Override
+    public void upsertAll(Collection<Restaurant> restaurants) {
+        if (restaurants.isEmpty()) {
+            return;
+        }
+        // A product sold by several restaurants can only be upserted once per statement
+        Map<UUID, Product> products = new LinkedHashMap<>();
+        List<UUID[]> restaurantProducts = new ArrayList<>();
+        List<UUID> restaurantIds = new ArrayList<>(restaurants.size());
+        for (Restaurant restaurant : restaurants) {
+            restaurantIds.add(restaurant.getId().getValue());
+            for (Product product : restaurant.getProducts()) {
+                products.put(product.getId().getValue(), product);
+                restaurantProducts.add(
+                    new UUID[] { restaurant.getId().getValue(), product.getId().getValue() }
+                );
+            }
+        }
+        MultiRowStatements.execute(
+            getEntityManager(),
+            UPSERT_PRODUCTS_INSERT,
+            UPSERT_PRODUCTS_CONFLICT,
+            new ArrayList<>(products.values()),
+            product ->
+                new Object[] {
+                    product.getId().getValue(),
+                    product.getLabel().label(),
+                    product.getPrice().amount()
+                }
+        );
+        MultiRowStatements.execute(
+            getEntityManager(),
+            UPSERT_RESTAURANTS_INSERT,
+            UPSERT_RESTAURANTS_CONFLICT,
+            new ArrayList<>(restaurants),
+            restaurant ->
+                new Object[] {
+                    restaurant.getId().getValue(),
+                    restaurant.getActive() == ActiveType.ACTIVE
+                }
+        );
+        // The snapshots are complete, the associations are replaced rather than merged
+        getEntityManager()
+            .createNativeQuery(DELETE_RESTAURANT_PRODUCTS)
+            .setParameter("restaurantIds", restaurantIds)
+            .executeUpdate();
+        MultiRowStatements.execute(
+            getEntityManager(),
+            INSERT_RESTAURANT_PRODUCTS,
+            "",
+            restaurantProducts,
+            restaurantProduct -> restaurantProduct
+        );
+    }
 }
@@ -19,15 +19,22 @@ package io.gbloch.meal.order.infrastucture.entity;
 import io.gbloch.meal.domain.vo.OrderStatus;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.ColumnResult;
+import jakarta.persistence.ConstructorResult;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.NamedNativeQuery;
+import jakarta.persistence.NamedQuery;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SqlResultSetMapping;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -35,6 +42,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
  * OrderEntity.
@@ -48,9 +58,60 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    indexes = {
+        @Index(name = "uk_orders_tracking_id", columnList = "trackingId", unique = true),
+        @Index(name = "idx_orders_customer_history", columnList = "customerId, createdAt, id")
+    }
+)
+@NamedQuery(
+    name = OrderEntity.FIND_BY_ID,
+    query = "select o from OrderEntity o left join fetch o.address left join fetch o.items " +
+    "where o.id = :id"
+)
+@NamedQuery(
+    name = OrderEntity.FIND_HISTORY,
+    query = "select new io.gbloch.meal.order.infrastucture.entity.OrderHistoryRow(" +
+    "o.id, o.trackingId, o.orderStatus, o.price, o.createdAt) from OrderEntity o " +
+    "where o.customerId = :customerId order by o.createdAt desc, o.id desc"
+)
+@NamedQuery(
+    name = OrderEntity.FIND_HISTORY_AFTER,
+    query = "select new io.gbloch.meal.order.infrastucture.entity.OrderHistoryRow(" +
+    "o.id, o.trackingId, o.orderStatus, o.price, o.createdAt) from OrderEntity o " +
+    "where o.customerId = :customerId and (o.createdAt, o.id) < (:createdAt, :id) " +
+    "order by o.createdAt desc, o.id desc"
+)
+@NamedNativeQuery(
+    name = OrderEntity.FIND_STATUSES_BY_TRACKING_IDS,
+    query = "SELECT tracking_id, order_status, failure_messages FROM orders " +
+    "WHERE tracking_id = ANY(:trackingIds)",
+    resultSetMapping = OrderEntity.ORDER_STATUS_ROW
+)
+@SqlResultSetMapping(
+    name = OrderEntity.ORDER_STATUS_ROW,
+    classes = @ConstructorResult(
+        targetClass = OrderStatusRow.class,
+        columns = {
+            @ColumnResult(name = "tracking_id", type = UUID.class),
+            @ColumnResult(name = "order_status", type = String.class),
+            @ColumnResult(name = "failure_messages", type = String[].class)
+        }
+    )
+)
 public class OrderEntity {
 
+    // Load the whole aggregate, address and items included, in a single round-trip
+    public static final String FIND_BY_ID = "OrderEntity.findById";
+    // Keyset pagination of the history of a customer, newest first
+    public static final String FIND_HISTORY = "OrderEntity.findHistory";
+    public static final String FIND_HISTORY_AFTER = "OrderEntity.findHistoryAfter";
+    // Statuses of a batch, one uuid array parameter keeps one statement whatever the batch size
+    public static final String FIND_STATUSES_BY_TRACKING_IDS =
+        "OrderEntity.findStatusesByTrackingIds";
+    public static final String ORDER_STATUS_ROW = "OrderEntity.orderStatusRow";
+
     @Id
     private UUID id;
 
@@ -62,7 +123,13 @@ public class OrderEntity {
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
 
-    private String failureMessages;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "text[]")
+    private String[] failureMessages;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
 
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
     private OrderAddressEntity address;
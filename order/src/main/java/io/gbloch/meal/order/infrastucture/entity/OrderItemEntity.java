@@ -20,6 +20,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -44,7 +45,10 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @IdClass(OrderItemEntityId.class)
-@Table(name = "order_items")
+@Table(
+    name = "order_items",
+    indexes = @Index(name = "idx_order_items_order_id", columnList = "ORDER_ID")
+)
 public class OrderItemEntity {
 
     @Id
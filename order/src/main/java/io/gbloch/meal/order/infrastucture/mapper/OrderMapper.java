@@ -16,8 +16,6 @@
 
 package io.gbloch.meal.order.infrastucture.mapper;
 
-import static io.gbloch.meal.order.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
-
 import io.gbloch.meal.domain.error.ErrorMessages;
 import io.gbloch.meal.domain.vo.Address;
 import io.gbloch.meal.domain.vo.CustomerId;
@@ -34,11 +32,14 @@ import io.gbloch.meal.order.domain.vo.TrackingId;
 import io.gbloch.meal.order.infrastucture.entity.OrderAddressEntity;
 import io.gbloch.meal.order.infrastucture.entity.OrderEntity;
 import io.gbloch.meal.order.infrastucture.entity.OrderItemEntity;
-import jakarta.enterprise.context.ApplicationScoped;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 /**
  * OrderMapper.
@@ -46,107 +47,94 @@ import java.util.stream.Collectors;
  * @author Gaëtan Bloch
  * <br>Created on 14/05/2023
  */
-@ApplicationScoped
-public final class OrderMapper {
-
-    public OrderEntity toOrderEntity(Order order) {
-        OrderEntity orderEntity = OrderEntity
-            .builder()
-            .id(order.getId().getValue())
-            .customerId(order.getCustomerId().getValue())
-            .restaurantId(order.getRestaurantId().getValue())
-            .trackingId(order.getTrackingId().getValue())
-            .address(toAddressEntity(order.getDeliveryAddress()))
-            .price(order.getPrice().amount())
-            .items(orderItemsToOrderItemEntities(order.getItems()))
-            .orderStatus(order.getStatus())
-            .failureMessages(
-                order.getErrors() != null
-                    ? String.join(FAILURE_MESSAGE_DELIMITER, order.getErrors().messages())
-                    : ""
-            )
-            .build();
-        orderEntity.getAddress().setOrder(orderEntity);
-        orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
-
-        return orderEntity;
+@Mapper(componentModel = "cdi")
+public interface OrderMapper {
+    @Mapping(target = "id", source = "id.value")
+    @Mapping(target = "customerId", source = "customerId.value")
+    @Mapping(target = "restaurantId", source = "restaurantId.value")
+    @Mapping(target = "trackingId", source = "trackingId.value")
+    @Mapping(target = "price", source = "price.amount")
+    @Mapping(target = "orderStatus", source = "status")
+    @Mapping(target = "failureMessages", source = "errors")
+    @Mapping(target = "address", source = "deliveryAddress")
+    @Mapping(target = "createdAt", ignore = true)
+    OrderEntity toOrderEntity(Order order);
+
+    @Mapping(target = "id", source = "id.value")
+    @Mapping(target = "order", ignore = true)
+    @Mapping(target = "productId", source = "product.id.value")
+    @Mapping(target = "price", source = "price.amount")
+    @Mapping(target = "quantity", source = "quantity.quantity")
+    @Mapping(target = "subTotal", source = "subTotal.amount")
+    OrderItemEntity toOrderItemEntity(OrderItem orderItem);
+
+    @Mapping(target = "order", ignore = true)
+    OrderAddressEntity toAddressEntity(Address deliveryAddress);
+
+    @AfterMapping
+    default void linkOrder(@MappingTarget OrderEntity orderEntity) {
+        if (orderEntity.getAddress() != null) {
+            orderEntity.getAddress().setOrder(orderEntity);
+        }
+        if (orderEntity.getItems() != null) {
+            for (OrderItemEntity orderItemEntity : orderEntity.getItems()) {
+                orderItemEntity.setOrder(orderEntity);
+            }
+        }
+    }
+
+    @Mapping(target = "deliveryAddress", source = "address")
+    @Mapping(target = "status", source = "orderStatus")
+    @Mapping(target = "errors", source = "failureMessages")
+    Order toOrder(OrderEntity orderEntity);
+
+    @Mapping(target = "orderId", source = "order.id")
+    @Mapping(target = "product", source = "productId")
+    OrderItem toOrderItem(OrderItemEntity orderItemEntity);
+
+    Address toDeliveryAddress(OrderAddressEntity address);
+
+    default OrderId toOrderId(UUID id) {
+        return id == null ? null : new OrderId(id);
     }
 
-    public Order toOrder(OrderEntity orderEntity) {
-        return Order
-            .builder()
-            .id(new OrderId(orderEntity.getId()))
-            .customerId(new CustomerId(orderEntity.getCustomerId()))
-            .restaurantId(new RestaurantId(orderEntity.getRestaurantId()))
-            .deliveryAddress(toDeliveryAddress(orderEntity.getAddress()))
-            .price(new Money(orderEntity.getPrice()))
-            .items(toOrderItems(orderEntity.getItems()))
-            .trackingId(new TrackingId(orderEntity.getTrackingId()))
-            .status(orderEntity.getOrderStatus())
-            .errors(
-                orderEntity.getFailureMessages().isEmpty()
-                    ? new ErrorMessages(new ArrayList<>(0))
-                    : new ErrorMessages(
-                        new ArrayList<>(
-                            Arrays.asList(
-                                orderEntity.getFailureMessages().split(FAILURE_MESSAGE_DELIMITER)
-                            )
-                        )
-                    )
-            )
-            .build();
+    default CustomerId toCustomerId(UUID id) {
+        return id == null ? null : new CustomerId(id);
     }
 
-    private List<OrderItem> toOrderItems(List<OrderItemEntity> items) {
-        return items
-            .stream()
-            .map(orderItemEntity ->
-                OrderItem
-                    .builder()
-                    .id(new OrderItemId(orderItemEntity.getId()))
-                    .product(new Product(new ProductId(orderItemEntity.getProductId())))
-                    .price(new Money(orderItemEntity.getPrice()))
-                    .quantity(new Quantity(orderItemEntity.getQuantity()))
-                    .subTotal(new Money(orderItemEntity.getSubTotal()))
-                    .build()
-            )
-            .collect(Collectors.toList());
+    default RestaurantId toRestaurantId(UUID id) {
+        return id == null ? null : new RestaurantId(id);
     }
 
-    private Address toDeliveryAddress(OrderAddressEntity address) {
-        return new Address(
-            address.getId(),
-            address.getStreet(),
-            address.getZipCode(),
-            address.getCity(),
-            address.getCountry()
-        );
+    default TrackingId toTrackingId(UUID id) {
+        return id == null ? null : new TrackingId(id);
     }
 
-    private List<OrderItemEntity> orderItemsToOrderItemEntities(List<OrderItem> items) {
-        return items
-            .stream()
-            .map(orderItem ->
-                OrderItemEntity
-                    .builder()
-                    .id(orderItem.getId().getValue())
-                    .productId(orderItem.getProduct().getId().getValue())
-                    .price(orderItem.getPrice().amount())
-                    .quantity(orderItem.getQuantity().quantity())
-                    .subTotal(orderItem.getSubTotal().amount())
-                    .build()
-            )
-            .collect(Collectors.toList());
+    default OrderItemId toOrderItemId(Long id) {
+        return id == null ? null : new OrderItemId(id);
     }
 
-    private OrderAddressEntity toAddressEntity(Address deliveryAddress) {
-        return OrderAddressEntity
-            .builder()
-            .id(deliveryAddress.id())
-            .street(deliveryAddress.street())
-            .zipCode(deliveryAddress.zipCode())
-            .city(deliveryAddress.city())
-            .country(deliveryAddress.country())
-            .build();
+    default Product toProduct(UUID productId) {
+        return productId == null ? null : new Product(new ProductId(productId));
+    }
+
+    default Money toMoney(BigDecimal amount) {
+        return amount == null ? null : new Money(amount);
+    }
+
+    default Quantity toQuantity(Integer quantity) {
+        return quantity == null ? null : new Quantity(quantity);
+    }
+
+    default String[] toFailureMessages(ErrorMessages errors) {
+        return errors != null ? errors.messages().toArray(new String[0]) : new String[0];
+    }
+
+    default ErrorMessages toErrorMessages(String[] failureMessages) {
+        return new ErrorMessages(
+            failureMessages != null
+                ? new ArrayList<>(Arrays.asList(failureMessages))
+                : new ArrayList<>(0)
+        );
     }
 }
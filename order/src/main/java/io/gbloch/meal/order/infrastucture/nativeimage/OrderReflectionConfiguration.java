@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.infrastucture.nativeimage;
+
+import io.gbloch.meal.order.application.dto.create.CreateOrderCommand;
+import io.gbloch.meal.order.application.dto.create.CreateOrderResponse;
+import io.gbloch.meal.order.application.dto.create.OrderAddress;
+import io.gbloch.meal.order.application.dto.create.OrderItem;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryResponse;
+import io.gbloch.meal.order.application.dto.history.OrderSummary;
+import io.gbloch.meal.order.application.dto.message.CustomerResponse;
+import io.gbloch.meal.order.application.dto.message.PaymentResponse;
+import io.gbloch.meal.order.application.dto.message.RestaurantCatalogResponse;
+import io.gbloch.meal.order.application.dto.message.RestaurantResponse;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersQuery;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersResponse;
+import io.gbloch.meal.order.infrastucture.entity.OrderHistoryRow;
+import io.gbloch.meal.order.infrastucture.entity.OrderStatusRow;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Native-image reflection registration of the order service.
+ *
+ * <p>The resources return their Lombok-built records wrapped in a {@code Response}, and the
+ * customer, payment, restaurant and catalog responses are bound from message payloads. The order
+ * history and status rows are instantiated by Hibernate from projections. MapStruct mappers are
+ * CDI beans and need no registration.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@RegisterForReflection(
+    targets = {
+        CreateOrderCommand.class,
+        OrderItem.class,
+        OrderAddress.class,
+        CreateOrderResponse.class,
+        TrackOrderResponse.class,
+        TrackOrdersQuery.class,
+        TrackOrdersResponse.class,
+        OrderHistoryResponse.class,
+        OrderSummary.class,
+        OrderHistoryRow.class,
+        OrderStatusRow.class,
+        PaymentResponse.class,
+        RestaurantResponse.class,
+        CustomerResponse.class,
+        RestaurantCatalogResponse.class,
+        RestaurantCatalogResponse.CatalogProduct.class
+    }
+)
+public final class OrderReflectionConfiguration {
+
+    private OrderReflectionConfiguration() {}
+}
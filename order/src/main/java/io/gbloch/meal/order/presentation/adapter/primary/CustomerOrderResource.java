@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.presentation.adapter.primary;
+
+import io.gbloch.meal.order.application.dto.history.OrderHistoryQuery;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryResponse;
+import io.gbloch.meal.order.application.port.input.order.GetOrderHistoryUseCase;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Order history of a customer, paginated with the opaque {@code next} cursor of each page.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+@UnlessBuildProperty(
+    name = "meal.virtual-threads.enabled",
+    stringValue = "true",
+    enableIfMissing = true
+)
+@Path("api/v1/customers/{customerId}/orders")
+@Produces("application/vnd.api.v1+json")
+public class CustomerOrderResource {
+
+    private final GetOrderHistoryUseCase getOrderHistoryUseCase;
+
+    @GET
+    public Response getOrderHistory(
+        @PathParam("customerId") UUID customerId,
+        @QueryParam("after") String after,
+        @QueryParam("limit") @DefaultValue("20") int limit
+    ) {
+        OrderHistoryResponse response = getOrderHistoryUseCase.getOrderHistory(
+            OrderHistoryQuery.builder().customerId(customerId).after(after).limit(limit).build()
+        );
+        log.debug("Returning {} orders for customer [{}]", response.orders().size(), customerId);
+        return Response.ok(response).build();
+    }
+}
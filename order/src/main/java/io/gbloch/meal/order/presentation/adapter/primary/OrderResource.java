@@ -20,8 +20,14 @@ import io.gbloch.meal.order.application.dto.create.CreateOrderCommand;
 import io.gbloch.meal.order.application.dto.create.CreateOrderResponse;
 import io.gbloch.meal.order.application.dto.track.TrackOrderQuery;
 import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersQuery;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersResponse;
 import io.gbloch.meal.order.application.port.input.order.CreateOrderUseCase;
 import io.gbloch.meal.order.application.port.input.order.TrackOrderUseCase;
+import io.gbloch.meal.order.application.port.input.order.TrackOrdersUseCase;
+import io.gbloch.meal.presentation.adapter.primary.ApiMediaTypes;
+import io.gbloch.meal.presentation.adapter.primary.EntityTags;
+import io.quarkus.arc.properties.UnlessBuildProperty;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -29,7 +35,10 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -44,13 +53,19 @@ import lombok.extern.slf4j.Slf4j;
 @ApplicationScoped
 @RequiredArgsConstructor
 @Slf4j
+@UnlessBuildProperty(
+    name = "meal.virtual-threads.enabled",
+    stringValue = "true",
+    enableIfMissing = true
+)
 @Path("api/v1/orders")
-@Produces("application/vnd.api.v1+json")
-@Consumes(MediaType.APPLICATION_JSON)
-public final class OrderResource {
+@Produces({ ApiMediaTypes.V1_JSON, ApiMediaTypes.V1_CBOR, ApiMediaTypes.V1_SMILE })
+@Consumes({ MediaType.APPLICATION_JSON, ApiMediaTypes.V1_CBOR, ApiMediaTypes.V1_SMILE })
+public class OrderResource {
 
     private final CreateOrderUseCase createOrderUseCase;
     private final TrackOrderUseCase trackOrderUseCase;
+    private final TrackOrdersUseCase trackOrdersUseCase;
 
     @POST
     public Response createOrder(CreateOrderCommand createOrderCommand) {
@@ -69,11 +84,28 @@ public final class OrderResource {
 
     @Path("/{trackingId}")
     @GET
-    public Response trackOrder(@PathParam("trackingId") UUID trackingId) {
+    public Response trackOrder(@PathParam("trackingId") UUID trackingId, @Context Request request) {
         TrackOrderResponse trackOrderResponse = trackOrderUseCase.trackOrder(
             TrackOrderQuery.builder().orderTrackingId(trackingId).build()
         );
         log.info("Returning order status for tracking id [{}]: {}", trackingId, trackOrderResponse);
-        return Response.ok(trackOrderResponse).build();
+        // The tracking id is in the URI, the status and its failures version the resource
+        EntityTag tag = EntityTags.of(
+            trackOrderResponse.orderStatus(),
+            trackOrderResponse.errorMessages()
+        );
+        return EntityTags.okIfModified(request, trackOrderResponse, tag);
+    }
+
+    @Path("/track:batch")
+    @POST
+    public Response trackOrders(TrackOrdersQuery trackOrdersQuery) {
+        TrackOrdersResponse trackOrdersResponse = trackOrdersUseCase.trackOrders(trackOrdersQuery);
+        log.info(
+            "Returning {} order statuses, {} tracking ids not found",
+            trackOrdersResponse.orders().size(),
+            trackOrdersResponse.notFound().size()
+        );
+        return Response.ok(trackOrdersResponse).build();
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.presentation.adapter.primary.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.gbloch.meal.order.application.dto.create.CreateOrderCommand;
+import io.gbloch.meal.order.application.dto.create.CreateOrderResponse;
+import io.gbloch.meal.order.application.dto.create.OrderAddress;
+import io.gbloch.meal.order.application.dto.create.OrderItem;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryResponse;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersQuery;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersResponse;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderRequestDeserializers.CreateOrderCommandDeserializer;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderRequestDeserializers.OrderAddressDeserializer;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderRequestDeserializers.OrderItemDeserializer;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderRequestDeserializers.TrackOrdersQueryDeserializer;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderResponseSerializers.CreateOrderResponseSerializer;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderResponseSerializers.OrderHistoryResponseSerializer;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderResponseSerializers.TrackOrderResponseSerializer;
+import io.gbloch.meal.order.presentation.adapter.primary.json.OrderResponseSerializers.TrackOrdersResponseSerializer;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+
+/**
+ * Registers the streaming codecs of the order API records on every Jackson mapper of the
+ * service: the JSON one of RESTEasy Reactive and the binary ones of the negotiated
+ * representations.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@Singleton
+public final class OrderJsonCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper mapper) {
+        mapper.registerModule(
+            new SimpleModule("order-api")
+                .addDeserializer(CreateOrderCommand.class, new CreateOrderCommandDeserializer())
+                .addDeserializer(OrderItem.class, new OrderItemDeserializer())
+                .addDeserializer(OrderAddress.class, new OrderAddressDeserializer())
+                .addDeserializer(TrackOrdersQuery.class, new TrackOrdersQueryDeserializer())
+                .addSerializer(CreateOrderResponse.class, new CreateOrderResponseSerializer())
+                .addSerializer(TrackOrderResponse.class, new TrackOrderResponseSerializer())
+                .addSerializer(TrackOrdersResponse.class, new TrackOrdersResponseSerializer())
+                .addSerializer(OrderHistoryResponse.class, new OrderHistoryResponseSerializer())
+        );
+    }
+}
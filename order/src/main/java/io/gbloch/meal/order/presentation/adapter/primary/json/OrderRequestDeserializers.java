@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.presentation.adapter.primary.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.gbloch.meal.order.application.dto.create.CreateOrderCommand;
+import io.gbloch.meal.order.application.dto.create.OrderAddress;
+import io.gbloch.meal.order.application.dto.create.OrderItem;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersQuery;
+import io.gbloch.meal.presentation.adapter.primary.json.JsonCodecs;
+import java.io.IOException;
+
+/**
+ * Streaming deserializers of the order API requests.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class OrderRequestDeserializers {
+
+    private OrderRequestDeserializers() {}
+
+    static final class CreateOrderCommandDeserializer extends StdDeserializer<CreateOrderCommand> {
+
+        private final OrderItemDeserializer orderItemDeserializer = new OrderItemDeserializer();
+        private final OrderAddressDeserializer orderAddressDeserializer =
+            new OrderAddressDeserializer();
+
+        CreateOrderCommandDeserializer() {
+            super(CreateOrderCommand.class);
+        }
+
+        @Override
+        public CreateOrderCommand deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException {
+            var builder = CreateOrderCommand.builder();
+            String field = JsonCodecs.firstField(parser, context, CreateOrderCommand.class);
+            while (field != null) {
+                parser.nextToken();
+                switch (field) {
+                    case "customerId" -> builder.customerId(JsonCodecs.readUuid(parser, context));
+                    case "restaurantId" -> builder.restaurantId(
+                        JsonCodecs.readUuid(parser, context)
+                    );
+                    case "price" -> builder.price(JsonCodecs.readDecimal(parser, context));
+                    case "items" -> builder.items(
+                        JsonCodecs.readList(parser, context, orderItemDeserializer::deserialize)
+                    );
+                    case "address" -> builder.address(
+                        JsonCodecs.readObject(
+                            parser,
+                            context,
+                            orderAddressDeserializer::deserialize
+                        )
+                    );
+                    default -> context.handleUnknownProperty(
+                        parser,
+                        this,
+                        CreateOrderCommand.class,
+                        field
+                    );
+                }
+                field = parser.nextFieldName();
+            }
+            return builder.build();
+        }
+    }
+
+    static final class OrderItemDeserializer extends StdDeserializer<OrderItem> {
+
+        OrderItemDeserializer() {
+            super(OrderItem.class);
+        }
+
+        @Override
+        public OrderItem deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException {
+            var builder = OrderItem.builder();
+            String field = JsonCodecs.firstField(parser, context, OrderItem.class);
+            while (field != null) {
+                parser.nextToken();
+                switch (field) {
+                    case "productId" -> builder.productId(JsonCodecs.readUuid(parser, context));
+                    case "quantity" -> builder.quantity(JsonCodecs.readInt(parser, context));
+                    case "price" -> builder.price(JsonCodecs.readDecimal(parser, context));
+                    case "totalPrice" -> builder.totalPrice(
+                        JsonCodecs.readDecimal(parser, context)
+                    );
+                    default -> context.handleUnknownProperty(parser, this, OrderItem.class, field);
+                }
+                field = parser.nextFieldName();
+            }
+            return builder.build();
+        }
+    }
+
+    static final class OrderAddressDeserializer extends StdDeserializer<OrderAddress> {
+
+        OrderAddressDeserializer() {
+            super(OrderAddress.class);
+        }
+
+        @Override
+        public OrderAddress deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException {
+            var builder = OrderAddress.builder();
+            String field = JsonCodecs.firstField(parser, context, OrderAddress.class);
+            while (field != null) {
+                parser.nextToken();
+                switch (field) {
+                    case "street" -> builder.street(JsonCodecs.readString(parser, context));
+                    case "city" -> builder.city(JsonCodecs.readString(parser, context));
+                    case "zipCode" -> builder.zipCode(JsonCodecs.readString(parser, context));
+                    case "country" -> builder.country(JsonCodecs.readString(parser, context));
+                    default -> context.handleUnknownProperty(
+                        parser,
+                        this,
+                        OrderAddress.class,
+                        field
+                    );
+                }
+                field = parser.nextFieldName();
+            }
+            return builder.build();
+        }
+    }
+
+    static final class TrackOrdersQueryDeserializer extends StdDeserializer<TrackOrdersQuery> {
+
+        TrackOrdersQueryDeserializer() {
+            super(TrackOrdersQuery.class);
+        }
+
+        @Override
+        public TrackOrdersQuery deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException {
+            var builder = TrackOrdersQuery.builder();
+            String field = JsonCodecs.firstField(parser, context, TrackOrdersQuery.class);
+            while (field != null) {
+                parser.nextToken();
+                if ("orderTrackingIds".equals(field)) {
+                    builder.orderTrackingIds(
+                        JsonCodecs.readList(parser, context, JsonCodecs::readUuid)
+                    );
+                } else {
+                    context.handleUnknownProperty(parser, this, TrackOrdersQuery.class, field);
+                }
+                field = parser.nextFieldName();
+            }
+            return builder.build();
+        }
+    }
+}
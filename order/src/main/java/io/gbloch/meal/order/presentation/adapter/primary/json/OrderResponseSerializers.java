@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.presentation.adapter.primary.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.gbloch.meal.order.application.dto.create.CreateOrderResponse;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryResponse;
+import io.gbloch.meal.order.application.dto.history.OrderSummary;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersResponse;
+import io.gbloch.meal.presentation.adapter.primary.json.JsonCodecs;
+import java.io.IOException;
+
+/**
+ * Streaming serializers of the order API responses.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class OrderResponseSerializers {
+
+    private OrderResponseSerializers() {}
+
+    static final class CreateOrderResponseSerializer extends StdSerializer<CreateOrderResponse> {
+
+        CreateOrderResponseSerializer() {
+            super(CreateOrderResponse.class);
+        }
+
+        @Override
+        public void serialize(
+            CreateOrderResponse value,
+            JsonGenerator generator,
+            SerializerProvider provider
+        ) throws IOException {
+            generator.writeStartObject(value);
+            JsonCodecs.writeUuid(generator, "orderTrackingId", value.orderTrackingId());
+            JsonCodecs.writeEnum(generator, "orderStatus", value.orderStatus());
+            JsonCodecs.writeString(generator, "message", value.message());
+            generator.writeEndObject();
+        }
+    }
+
+    static final class TrackOrderResponseSerializer extends StdSerializer<TrackOrderResponse> {
+
+        TrackOrderResponseSerializer() {
+            super(TrackOrderResponse.class);
+        }
+
+        @Override
+        public void serialize(
+            TrackOrderResponse value,
+            JsonGenerator generator,
+            SerializerProvider provider
+        ) throws IOException {
+            write(generator, value);
+        }
+
+        static void write(JsonGenerator generator, TrackOrderResponse value) throws IOException {
+            generator.writeStartObject(value);
+            JsonCodecs.writeUuid(generator, "orderTrackingId", value.orderTrackingId());
+            JsonCodecs.writeEnum(generator, "orderStatus", value.orderStatus());
+            JsonCodecs.writeList(
+                generator,
+                "errorMessages",
+                value.errorMessages(),
+                JsonGenerator::writeString
+            );
+            generator.writeEndObject();
+        }
+    }
+
+    static final class TrackOrdersResponseSerializer extends StdSerializer<TrackOrdersResponse> {
+
+        TrackOrdersResponseSerializer() {
+            super(TrackOrdersResponse.class);
+        }
+
+        @Override
+        public void serialize(
+            TrackOrdersResponse value,
+            JsonGenerator generator,
+            SerializerProvider provider
+        ) throws IOException {
+            generator.writeStartObject(value);
+            JsonCodecs.writeList(
+                generator,
+                "orders",
+                value.orders(),
+                TrackOrderResponseSerializer::write
+            );
+            JsonCodecs.writeList(
+                generator,
+                "notFound",
+                value.notFound(),
+                (listGenerator, trackingId) -> listGenerator.writeString(trackingId.toString())
+            );
+            generator.writeEndObject();
+        }
+    }
+
+    static final class OrderHistoryResponseSerializer extends StdSerializer<OrderHistoryResponse> {
+
+        OrderHistoryResponseSerializer() {
+            super(OrderHistoryResponse.class);
+        }
+
+        @Override
+        public void serialize(
+            OrderHistoryResponse value,
+            JsonGenerator generator,
+            SerializerProvider provider
+        ) throws IOException {
+            generator.writeStartObject(value);
+            JsonCodecs.writeList(
+                generator,
+                "orders",
+                value.orders(),
+                OrderHistoryResponseSerializer::writeSummary
+            );
+            JsonCodecs.writeString(generator, "next", value.next());
+            generator.writeEndObject();
+        }
+
+        private static void writeSummary(JsonGenerator generator, OrderSummary summary)
+            throws IOException {
+            generator.writeStartObject(summary);
+            JsonCodecs.writeUuid(generator, "orderTrackingId", summary.orderTrackingId());
+            JsonCodecs.writeEnum(generator, "orderStatus", summary.orderStatus());
+            JsonCodecs.writeDecimal(generator, "price", summary.price());
+            JsonCodecs.writeInstant(generator, "createdAt", summary.createdAt());
+            generator.writeEndObject();
+        }
+    }
+}
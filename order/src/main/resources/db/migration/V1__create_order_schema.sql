@@ -0,0 +1,78 @@
+CREATE TABLE orders
+(
+    id               UUID NOT NULL,
+    customer_id      UUID,
+    restaurant_id    UUID,
+    tracking_id      UUID,
+    price            NUMERIC(38, 2),
+    order_status     VARCHAR(255),
+    failure_messages TEXT,
+    CONSTRAINT orders_pkey PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_orders_tracking_id ON orders (tracking_id);
+
+CREATE TABLE order_addresses
+(
+    id       UUID NOT NULL,
+    order_id UUID,
+    street   VARCHAR(255),
+    zip_code VARCHAR(255),
+    city     VARCHAR(255),
+    country  VARCHAR(255),
+    CONSTRAINT order_addresses_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_order_addresses_order_id FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+CREATE UNIQUE INDEX uk_order_addresses_order_id ON order_addresses (order_id);
+
+CREATE TABLE order_items
+(
+    id         BIGINT NOT NULL,
+    order_id   UUID   NOT NULL,
+    product_id UUID,
+    price      NUMERIC(38, 2),
+    quantity   INTEGER,
+    sub_total  NUMERIC(38, 2),
+    CONSTRAINT order_items_pkey PRIMARY KEY (id, order_id),
+    CONSTRAINT fk_order_items_order_id FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
+
+CREATE TABLE order_customers
+(
+    id         UUID NOT NULL,
+    user_name  VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    CONSTRAINT order_customers_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE order_products
+(
+    id    UUID NOT NULL,
+    label VARCHAR(255),
+    price NUMERIC(38, 2),
+    CONSTRAINT order_products_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE order_restaurants
+(
+    restaurant_id UUID    NOT NULL,
+    active        BOOLEAN NOT NULL,
+    CONSTRAINT order_restaurants_pkey PRIMARY KEY (restaurant_id)
+);
+
+CREATE TABLE order_restaurant_products
+(
+    restaurant_id UUID NOT NULL,
+    product_id    UUID NOT NULL,
+    CONSTRAINT order_restaurant_products_pkey PRIMARY KEY (restaurant_id, product_id),
+    CONSTRAINT fk_order_restaurant_products_restaurant_id
+        FOREIGN KEY (restaurant_id) REFERENCES order_restaurants (restaurant_id),
+    CONSTRAINT fk_order_restaurant_products_product_id
+        FOREIGN KEY (product_id) REFERENCES order_products (id)
+);
+
+CREATE INDEX idx_order_restaurant_products_product_id ON order_restaurant_products (product_id);
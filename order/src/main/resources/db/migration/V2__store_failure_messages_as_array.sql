@@ -0,0 +1,6 @@
+ALTER TABLE orders
+    ALTER COLUMN failure_messages TYPE TEXT[]
+        USING CASE
+                  WHEN failure_messages IS NULL OR failure_messages = '' THEN '{}'::TEXT[]
+                  ELSE string_to_array(failure_messages, ',')
+        END;
@@ -0,0 +1,6 @@
+ALTER TABLE orders
+    ADD COLUMN created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
+
+-- Keyset pagination of the order history of a customer, covering the listed columns
+CREATE INDEX idx_orders_customer_history
+    ON orders (customer_id, created_at, id) INCLUDE (tracking_id, order_status, price);
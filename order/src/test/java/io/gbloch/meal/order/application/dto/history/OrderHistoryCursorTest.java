@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.application.dto.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.gbloch.meal.application.error.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks the opaque encoding of {@link OrderHistoryCursor}.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class OrderHistoryCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        OrderHistoryCursor cursor = new OrderHistoryCursor(
+            Instant.parse("2026-10-19T12:00:00.123456Z"),
+            UUID.randomUUID()
+        );
+
+        assertThat(OrderHistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodesToUrlSafeBase64WithoutPadding() {
+        OrderHistoryCursor cursor = new OrderHistoryCursor(Instant.now(), UUID.randomUUID());
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsACursorThatIsNotBase64() {
+        assertThatThrownBy(() -> OrderHistoryCursor.decode("not base64!"))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "",
+            "2026-10-19T12:00:00Z",
+            "2026-10-19T12:00:00Z|not-a-uuid",
+            "yesterday|00000000-0000-0000-0000-000000000001",
+        }
+    )
+    void rejectsAMalformedCursor(String cursor) {
+        String encoded = Base64
+            .getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(cursor.getBytes(StandardCharsets.US_ASCII));
+
+        assertThatThrownBy(() -> OrderHistoryCursor.decode(encoded))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.infrastucture.adapter.secondary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.gbloch.meal.domain.vo.OrderStatus;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryCursor;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryPage;
+import io.gbloch.meal.order.application.dto.history.OrderSummary;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.infrastucture.entity.OrderHistoryRow;
+import io.gbloch.meal.order.infrastucture.entity.OrderStatusRow;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks how {@link OrderRepositoryImpl} maps its projections: the history rows, fetched one
+ * beyond the limit, into a page and its cursor, and the status rows into tracking responses.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class OrderRepositoryImplTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-10-19T12:00:00Z");
+
+    @Test
+    void extraRowLeavesACursorOnTheLastOrderOfThePage() {
+        List<OrderHistoryRow> rows = List.of(row(3), row(2), row(1));
+
+        OrderHistoryPage page = OrderRepositoryImpl.toHistoryPage(rows, 2);
+
+        assertThat(page.orders())
+            .extracting(OrderSummary::orderTrackingId)
+            .containsExactly(rows.get(0).trackingId(), rows.get(1).trackingId());
+        assertThat(page.next())
+            .isEqualTo(new OrderHistoryCursor(rows.get(1).createdAt(), rows.get(1).id()));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        List<OrderHistoryRow> rows = List.of(row(2), row(1));
+
+        OrderHistoryPage page = OrderRepositoryImpl.toHistoryPage(rows, 2);
+
+        assertThat(page.orders()).hasSize(2);
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void emptyHistoryHasNoCursor() {
+        OrderHistoryPage page = OrderRepositoryImpl.toHistoryPage(List.of(), 2);
+
+        assertThat(page.orders()).isEmpty();
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void statusKeepsTheFailureMessagesInOrderAndDropsNullOnes() {
+        OrderStatusRow row = new OrderStatusRow(
+            UUID.randomUUID(),
+            "CANCELLED",
+            new String[] { "Out of stock, sorry", null, "Payment refused" }
+        );
+
+        TrackOrderResponse status = OrderRepositoryImpl.toTrackOrderResponse(row);
+
+        assertThat(status.orderStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(status.errorMessages())
+            .containsExactly("Out of stock, sorry", "Payment refused");
+    }
+
+    @Test
+    void statusWithoutFailureMessagesHasNone() {
+        OrderStatusRow row = new OrderStatusRow(UUID.randomUUID(), "PAID", null);
+
+        assertThat(OrderRepositoryImpl.toTrackOrderResponse(row).errorMessages()).isEmpty();
+    }
+
+    private static OrderHistoryRow row(int second) {
+        return new OrderHistoryRow(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            OrderStatus.PAID,
+            BigDecimal.TEN,
+            CREATED_AT.plusSeconds(second)
+        );
+    }
+}
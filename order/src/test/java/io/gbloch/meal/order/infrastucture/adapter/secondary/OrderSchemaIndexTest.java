@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.infrastucture.adapter.secondary;
+
+import io.gbloch.meal.infrastructure.datasource.MigratedDatabase;
+import java.io.IOException;
+import java.sql.SQLException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the lookups of orders by tracking id are served by the indexes of the Flyway
+ * migrations, on tables of {@value #ROWS} rows.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class OrderSchemaIndexTest {
+
+    private static final int ROWS = 10_000;
+
+    private static MigratedDatabase database;
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        database = MigratedDatabase.start();
+        database.fill(
+            "orders",
+            ROWS,
+            "id, tracking_id",
+            "md5('o' || i)::uuid, md5('t' || i)::uuid"
+        );
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        database.close();
+    }
+
+    @Test
+    void ordersByTrackingIdUseTheUniqueIndex() throws SQLException {
+        database.assertIndexScan("orders", "tracking_id", "uk_orders_tracking_id");
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.infrastucture.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.gbloch.meal.infrastructure.datasource.MigratedDatabase;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the aggregate query of {@link OrderEntity} loads an order with its address and items
+ * in a single statement, that the batch tracking binds its tracking ids as one array, and that the
+ * history queries page through the orders of a customer, on a {@link MigratedDatabase}.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class OrderEntityQueriesTest {
+
+    private static final UUID ORDER_ID = UUID.randomUUID();
+    private static final UUID TRACKING_ID = UUID.randomUUID();
+
+    private static final UUID FAILED_TRACKING_ID = UUID.randomUUID();
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+    private static final Instant CREATED_AT = Instant.parse("2026-10-19T12:00:00Z");
+    // Newest first, the three orders created at the same time in descending id order
+    private static final List<UUID> HISTORY = List.of(
+        historyOrderId(5),
+        historyOrderId(4),
+        historyOrderId(3),
+        historyOrderId(2),
+        historyOrderId(1)
+    );
+
+    private static MigratedDatabase database;
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        database = MigratedDatabase.start();
+        insertOrder();
+        insertFailedOrder();
+        insertHistory();
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(OrderEntity.class)
+            .addAnnotatedClass(OrderAddressEntity.class)
+            .addAnnotatedClass(OrderItemEntity.class)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, database.jdbcUrl())
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, database.user())
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+            .buildSessionFactory();
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        sessionFactory.close();
+        database.close();
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        sessionFactory.getStatistics().clear();
+    }
+
+    @Test
+    void findByIdLoadsTheAggregateInOneStatement() {
+        sessionFactory.inSession(session -> {
+            OrderEntity order = session
+                .createNamedQuery(OrderEntity.FIND_BY_ID, OrderEntity.class)
+                .setParameter("id", ORDER_ID)
+                .getSingleResult();
+
+            assertAggregateLoaded(order);
+        });
+
+        assertOneStatement(sessionFactory.getStatistics());
+    }
+
+    @Test
+    void statusesByTrackingIdsBindTheBatchAsOneArray() {
+        sessionFactory.inSession(session -> {
+            List<OrderStatusRow> rows = session
+                .createNamedQuery(OrderEntity.FIND_STATUSES_BY_TRACKING_IDS, OrderStatusRow.class)
+                .setParameter(
+                    "trackingIds",
+                    new UUID[] { TRACKING_ID, FAILED_TRACKING_ID, UUID.randomUUID() }
+                )
+                .getResultList();
+
+            assertThat(rows)
+                .extracting(OrderStatusRow::trackingId, OrderStatusRow::orderStatus)
+                .containsExactlyInAnyOrder(
+                    tuple(TRACKING_ID, "PENDING"),
+                    tuple(FAILED_TRACKING_ID, "CANCELLED")
+                );
+            assertThat(rows)
+                .filteredOn(row -> row.trackingId().equals(FAILED_TRACKING_ID))
+                .singleElement()
+                .extracting(OrderStatusRow::failureMessages)
+                .isEqualTo(new String[] { "Out of stock, sorry", null });
+        });
+
+        assertThat(sessionFactory.getStatistics().getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void historyPagesCoverEveryOrderOnceAcrossCreationTimeTies() {
+        List<UUID> walked = new ArrayList<>();
+        sessionFactory.inSession(session -> {
+            List<OrderHistoryRow> page = session
+                .createNamedQuery(OrderEntity.FIND_HISTORY, OrderHistoryRow.class)
+                .setParameter("customerId", CUSTOMER_ID)
+                .setMaxResults(2)
+                .getResultList();
+            while (!page.isEmpty()) {
+                page.forEach(row -> walked.add(row.id()));
+                OrderHistoryRow last = page.get(page.size() - 1);
+                page =
+                    session
+                        .createNamedQuery(OrderEntity.FIND_HISTORY_AFTER, OrderHistoryRow.class)
+                        .setParameter("customerId", CUSTOMER_ID)
+                        .setParameter("createdAt", last.createdAt())
+                        .setParameter("id", last.id())
+                        .setMaxResults(2)
+                        .getResultList();
+            }
+        });
+
+        assertThat(walked).containsExactlyElementsOf(HISTORY);
+    }
+
+    @Test
+    void historyAfterATiedOrderKeepsTheOlderOrdersOfTheSameTime() {
+        sessionFactory.inSession(session -> {
+            List<OrderHistoryRow> rows = session
+                .createNamedQuery(OrderEntity.FIND_HISTORY_AFTER, OrderHistoryRow.class)
+                .setParameter("customerId", CUSTOMER_ID)
+                .setParameter("createdAt", CREATED_AT)
+                .setParameter("id", historyOrderId(3))
+                .getResultList();
+
+            assertThat(rows)
+                .extracting(OrderHistoryRow::id)
+                .containsExactlyElementsOf(HISTORY.subList(3, 5));
+        });
+    }
+
+    @Test
+    void historyAfterTheOldestOrderIsEmpty() {
+        sessionFactory.inSession(session -> {
+            List<OrderHistoryRow> rows = session
+                .createNamedQuery(OrderEntity.FIND_HISTORY_AFTER, OrderHistoryRow.class)
+                .setParameter("customerId", CUSTOMER_ID)
+                .setParameter("createdAt", CREATED_AT.minusSeconds(1))
+                .setParameter("id", historyOrderId(1))
+                .getResultList();
+
+            assertThat(rows).isEmpty();
+        });
+    }
+
+    private static void assertAggregateLoaded(OrderEntity order) {
+        assertThat(order.getId()).isEqualTo(ORDER_ID);
+        assertThat(order.getAddress().getCity()).isEqualTo("Paris");
+        assertThat(order.getItems()).hasSize(2);
+    }
+
+    private static void assertOneStatement(Statistics statistics) {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    private static void insertOrder() throws SQLException {
+        database.execute(
+            """
+            INSERT INTO orders
+                (id, customer_id, restaurant_id, tracking_id, price, order_status)
+            VALUES ('%s', '%s', '%s', '%s', 30.00, 'PENDING')
+            """.formatted(ORDER_ID, UUID.randomUUID(), UUID.randomUUID(), TRACKING_ID),
+            """
+            INSERT INTO order_addresses (id, order_id, street, zip_code, city, country)
+            VALUES ('%s', '%s', '1 rue de Rivoli', '75001', 'Paris', 'France')
+            """.formatted(UUID.randomUUID(), ORDER_ID),
+            """
+            INSERT INTO order_items (id, order_id, product_id, price, quantity, sub_total)
+            VALUES (1, '%1$s', '%2$s', 10.00, 1, 10.00), (2, '%1$s', '%3$s', 10.00, 2, 20.00)
+            """.formatted(ORDER_ID, UUID.randomUUID(), UUID.randomUUID())
+        );
+    }
+
+    private static void insertFailedOrder() throws SQLException {
+        database.execute(
+            """
+            INSERT INTO orders
+                (id, customer_id, restaurant_id, tracking_id, price, order_status, failure_messages)
+            VALUES (
+                gen_random_uuid(), gen_random_uuid(), gen_random_uuid(), '%s', 10.00, 'CANCELLED',
+                ARRAY['Out of stock, sorry', NULL]
+            )
+            """.formatted(FAILED_TRACKING_ID)
+        );
+    }
+
+    private static void insertHistory() throws SQLException {
+        String insert =
+            """
+            INSERT INTO orders
+                (id, customer_id, restaurant_id, tracking_id, price, order_status, created_at)
+            VALUES ('%s', '%s', '%s', '%s', 10.00, 'PAID', '%s')
+            """;
+        // Order 1 is the oldest, orders 2 to 4 are created at the same time, order 5 is the newest
+        long[] seconds = { -1, 0, 0, 0, 1 };
+        String[] statements = new String[seconds.length];
+        for (int i = 0; i < seconds.length; i++) {
+            statements[i] = insert.formatted(
+                historyOrderId(i + 1),
+                CUSTOMER_ID,
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                CREATED_AT.plusSeconds(seconds[i])
+            );
+        }
+        database.execute(statements);
+    }
+
+    private static UUID historyOrderId(int i) {
+        return new UUID(0, i);
+    }
+}
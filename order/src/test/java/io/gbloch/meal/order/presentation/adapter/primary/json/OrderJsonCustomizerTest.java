@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.order.presentation.adapter.primary.json;
+
+import io.gbloch.meal.domain.vo.OrderStatus;
+import io.gbloch.meal.order.application.dto.create.CreateOrderCommand;
+import io.gbloch.meal.order.application.dto.create.CreateOrderResponse;
+import io.gbloch.meal.order.application.dto.create.OrderAddress;
+import io.gbloch.meal.order.application.dto.create.OrderItem;
+import io.gbloch.meal.order.application.dto.history.OrderHistoryResponse;
+import io.gbloch.meal.order.application.dto.history.OrderSummary;
+import io.gbloch.meal.order.application.dto.track.TrackOrderResponse;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersQuery;
+import io.gbloch.meal.order.application.dto.track.TrackOrdersResponse;
+import io.gbloch.meal.presentation.adapter.primary.json.CodecEquivalence;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that the streaming codecs of the order API read and write the documents of databind.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class OrderJsonCustomizerTest {
+
+    private static final OrderJsonCustomizer CODECS = new OrderJsonCustomizer();
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    void codecsMatchDatabind(Object document) throws Exception {
+        CodecEquivalence.assertSameAsDatabind(CODECS, document);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            """
+            {"street": "1 rue de Rivoli", "city": "Paris", "zipCode": 75001, "country": "France"}
+            """,
+            """
+            {"street": 1.5, "city": true, "zipCode": "75001", "country": null}
+            """,
+            """
+            {"street": "1 rue de Rivoli", "floor": 3, "zipCode": "75001"}
+            """,
+        }
+    )
+    void addressReadsLikeDatabind(String json) throws IOException {
+        CodecEquivalence.assertReadsLikeDatabind(CODECS, OrderAddress.class, json);
+    }
+
+    static Stream<Object> documents() {
+        UUID trackingId = UUID.randomUUID();
+        TrackOrderResponse cancelled = TrackOrderResponse
+            .builder()
+            .orderTrackingId(trackingId)
+            .orderStatus(OrderStatus.CANCELLED)
+            .errorMessages(List.of("Payment failed, card declined", "Restaurant closed"))
+            .build();
+        return Stream.of(
+            CreateOrderCommand
+                .builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .price(new BigDecimal("30.00"))
+                .items(
+                    List.of(
+                        OrderItem
+                            .builder()
+                            .productId(UUID.randomUUID())
+                            .quantity(2)
+                            .price(new BigDecimal("10.00"))
+                            .totalPrice(new BigDecimal("20.00"))
+                            .build(),
+                        OrderItem
+                            .builder()
+                            .productId(UUID.randomUUID())
+                            .quantity(1)
+                            .price(new BigDecimal("10.00"))
+                            .totalPrice(new BigDecimal("10.00"))
+                            .build()
+                    )
+                )
+                .address(
+                    OrderAddress
+                        .builder()
+                        .street("1 rue de Rivoli")
+                        .city("Paris")
+                        .zipCode("75001")
+                        .country("France")
+                        .build()
+                )
+                .build(),
+            CreateOrderCommand.builder().customerId(UUID.randomUUID()).build(),
+            TrackOrdersQuery
+                .builder()
+                .orderTrackingIds(List.of(trackingId, UUID.randomUUID()))
+                .build(),
+            TrackOrdersQuery.builder().build(),
+            CreateOrderResponse
+                .builder()
+                .orderTrackingId(trackingId)
+                .orderStatus(OrderStatus.PENDING)
+                .message("Order created successfully")
+                .build(),
+            CreateOrderResponse.builder().build(),
+            cancelled,
+            TrackOrderResponse.builder().orderTrackingId(trackingId).build(),
+            TrackOrdersResponse
+                .builder()
+                .orders(List.of(cancelled))
+                .notFound(List.of(UUID.randomUUID()))
+                .build(),
+            TrackOrdersResponse.builder().build(),
+            OrderHistoryResponse
+                .builder()
+                .orders(
+                    List.of(
+                        OrderSummary
+                            .builder()
+                            .orderTrackingId(trackingId)
+                            .orderStatus(OrderStatus.PAID)
+                            .price(new BigDecimal("30.00"))
+                            .createdAt(Instant.parse("2026-10-19T12:00:00.123456Z"))
+                            .build(),
+                        OrderSummary.builder().build()
+                    )
+                )
+                .next("MjAyNi0xMC0xOVQxMjowMDowMFp8")
+                .build(),
+            OrderHistoryResponse.builder().build()
+        );
+    }
+}
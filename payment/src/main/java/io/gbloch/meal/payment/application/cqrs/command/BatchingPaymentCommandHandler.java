@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.payment.application.cqrs.command;
+
+import io.gbloch.meal.payment.application.dto.PaymentRequest;
+import io.gbloch.meal.payment.application.port.input.CompletePaymentUseCase;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Alternative;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+
+/**
+ * Batching front of the {@link CompletePaymentUseCase}.
+ * <p>
+ * Payment requests are queued and completed by a single flusher, which collects up to
+ * {@code meal.payment.batch.max-size} requests or waits at most {@code meal.payment.batch.max-wait}
+ * before handing them to the {@link PaymentBatchProcessor} (group commit). Callers block until the
+ * transaction holding their payment is committed. When the batch transaction fails, every payment
+ * of the batch is retried in a transaction of its own so that one bad payment cannot fail the
+ * others.
+ * <p>
+ * The {@code payment} concurrency limit applies to the batch transactions, each one call in flight,
+ * and not to the callers, whose latency would include the wait for the batch. When the limit is
+ * reached, the batch is rejected before its transaction opens and every payment of it fails with
+ * the rejection, without being retried one by one. Payments are requested by messages, so the
+ * listener must let the rejection fail the message, which is then redelivered, rather than
+ * acknowledge it.
+ * <p>
+ * The flusher runs on its own thread for the lifetime of the application. A caller re-checks that
+ * the flusher is still running once its payment is queued, and takes the payment back to complete
+ * it itself otherwise, so that no payment is left waiting after shutdown.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@Alternative
+@Priority(1)
+@IfBuildProperty(name = "meal.payment.batch.enabled", stringValue = "true", enableIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+final class BatchingPaymentCommandHandler implements CompletePaymentUseCase {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final PaymentBatchProcessor paymentBatchProcessor;
+
+    private final BlockingQueue<PendingPayment> pendingPayments = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread flusher;
+
+    @ConfigProperty(name = "meal.payment.batch.max-size", defaultValue = "100")
+    int maxSize;
+
+    @ConfigProperty(name = "meal.payment.batch.max-wait", defaultValue = "10ms")
+    Duration maxWait;
+
+    void onStart(@Observes StartupEvent event) {
+        running = true;
+        flusher = new Thread(this::flushPendingPayments, "payment-batch-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        running = false;
+        try {
+            flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void completePayment(PaymentRequest paymentRequest) {
+        PendingPayment pendingPayment = new PendingPayment(paymentRequest);
+        if (running) {
+            pendingPayments.add(pendingPayment);
+            // Unless the flusher stopped meanwhile, without collecting the payment
+            if (running || !pendingPayments.remove(pendingPayment)) {
+                pendingPayment.await();
+                return;
+            }
+        }
+        completeAlone(pendingPayment);
+        pendingPayment.await();
+    }
+
+    private void flushPendingPayments() {
+        List<PendingPayment> batch = new ArrayList<>(maxSize);
+        try {
+            while (running || !pendingPayments.isEmpty()) {
+                if (collectBatch(batch)) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Payment batch flusher interrupted, completing pending payments one by one");
+            batch.forEach(this::completeAlone);
+        }
+        PendingPayment leftover;
+        while ((leftover = pendingPayments.poll()) != null) {
+            completeAlone(leftover);
+        }
+    }
+
+    private boolean collectBatch(List<PendingPayment> batch) throws InterruptedException {
+        PendingPayment first = pendingPayments.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (batch.size() < maxSize) {
+            if (pendingPayments.drainTo(batch, maxSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingPayment next = pendingPayments.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    private void flush(List<PendingPayment> batch) {
+        try {
+            paymentBatchProcessor.completePayments(batch);
+            batch.forEach(PendingPayment::complete);
+        } catch (BulkheadException e) {
+            log.warn("Payment batch of {} rejected over the concurrency limit", batch.size());
+            batch.forEach(pendingPayment -> {
+                pendingPayment.fail(e);
+                pendingPayment.complete();
+            });
+        } catch (RuntimeException e) {
+            log.error(
+                "Payment batch of {} failed, completing payments one by one",
+                batch.size(),
+                e
+            );
+            batch.forEach(this::completeAlone);
+        }
+    }
+
+    private void completeAlone(PendingPayment pendingPayment) {
+        if (!pendingPayment.hasFailed()) {
+            try {
+                paymentBatchProcessor.completePayments(List.of(pendingPayment));
+            } catch (RuntimeException e) {
+                pendingPayment.fail(e);
+            }
+        }
+        pendingPayment.complete();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.payment.application.cqrs.command;
+
+import io.gbloch.meal.domain.vo.CustomerId;
+import io.gbloch.meal.infrastructure.concurrency.ConcurrencyLimited;
+import io.gbloch.meal.payment.application.error.PaymentApplicationException;
+import io.gbloch.meal.payment.application.mapper.PaymentMapper;
+import io.gbloch.meal.payment.application.port.output.repository.CreditEntryRepository;
+import io.gbloch.meal.payment.application.port.output.repository.CreditHistoryRepository;
+import io.gbloch.meal.payment.application.port.output.repository.PaymentRepository;
+import io.gbloch.meal.payment.domain.entity.CreditEntry;
+import io.gbloch.meal.payment.domain.entity.CreditHistory;
+import io.gbloch.meal.payment.domain.entity.Payment;
+import io.gbloch.meal.payment.domain.service.PaymentDomainService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Completes a batch of payments in a single transaction.
+ * <p>
+ * The credit entries and credit histories of every customer of the batch are loaded with one query
+ * each, the domain service is then applied to every payment on a working copy of the customer's
+ * credit, so that a rejected payment leaves the credit untouched for the next payments of the same
+ * customer. Everything is finally written with batched statements on flush.
+ * <p>
+ * Like the {@link PaymentCommandHandler}, the processor publishes no payment event: the outcome of
+ * a payment is its persisted status, so the events returned by the domain service are not kept.
+ * <p>
+ * A batch takes the {@code payment} concurrency limit for its transaction only.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@Slf4j
+@RequiredArgsConstructor
+final class PaymentBatchProcessor {
+
+    private final PaymentDomainService paymentDomainService;
+    private final PaymentMapper paymentMapper;
+    private final PaymentRepository paymentRepository;
+    private final CreditEntryRepository creditEntryRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+
+    @Transactional
+    @ConcurrencyLimited("payment")
+    void completePayments(List<PendingPayment> pendingPayments) {
+        Map<PendingPayment, Payment> payments = toPayments(pendingPayments);
+        List<CustomerId> customerIds = payments
+            .values()
+            .stream()
+            .map(Payment::getCustomerId)
+            .distinct()
+            .toList();
+        Map<CustomerId, CreditEntry> creditEntries = getCreditEntries(customerIds);
+        Map<CustomerId, List<CreditHistory>> creditHistories = getCreditHistories(customerIds);
+
+        List<Payment> processedPayments = new ArrayList<>(payments.size());
+        Map<CustomerId, CreditEntry> updatedCreditEntries = new LinkedHashMap<>();
+        List<CreditHistory> newCreditHistories = new ArrayList<>(payments.size());
+        payments.forEach((pendingPayment, payment) -> {
+            try {
+                CustomerId customerId = payment.getCustomerId();
+                CreditEntry creditEntry = getCreditEntry(creditEntries, customerId).copy();
+                List<CreditHistory> customerCreditHistories = new ArrayList<>(
+                    getCreditHistory(creditHistories, customerId)
+                );
+                List<String> failureMessages = new ArrayList<>();
+                paymentDomainService.validateAndInitiatePayment(
+                    payment,
+                    creditEntry,
+                    customerCreditHistories,
+                    failureMessages
+                );
+                processedPayments.add(payment);
+                if (failureMessages.isEmpty()) {
+                    creditEntries.put(customerId, creditEntry);
+                    creditHistories.put(customerId, customerCreditHistories);
+                    updatedCreditEntries.put(customerId, creditEntry);
+                    newCreditHistories.add(
+                        customerCreditHistories.get(customerCreditHistories.size() - 1)
+                    );
+                }
+            } catch (RuntimeException e) {
+                pendingPayment.fail(e);
+            }
+        });
+
+        paymentRepository.saveAll(processedPayments);
+        creditHistoryRepository.saveAll(newCreditHistories);
+        creditEntryRepository.saveAll(updatedCreditEntries.values());
+        log.info(
+            "Completed a batch of {} payments, {} could not be processed",
+            pendingPayments.size(),
+            pendingPayments.size() - processedPayments.size()
+        );
+    }
+
+    private Map<PendingPayment, Payment> toPayments(List<PendingPayment> pendingPayments) {
+        Map<PendingPayment, Payment> payments = new LinkedHashMap<>(pendingPayments.size() * 2);
+        for (PendingPayment pendingPayment : pendingPayments) {
+            try {
+                payments.put(
+                    pendingPayment,
+                    paymentMapper.toPayment(pendingPayment.getPaymentRequest())
+                );
+            } catch (RuntimeException e) {
+                pendingPayment.fail(e);
+            }
+        }
+        return payments;
+    }
+
+    private Map<CustomerId, CreditEntry> getCreditEntries(List<CustomerId> customerIds) {
+        Map<CustomerId, CreditEntry> creditEntries = new HashMap<>(customerIds.size() * 2);
+        for (CreditEntry creditEntry : creditEntryRepository.findByCustomerIds(customerIds)) {
+            creditEntries.put(creditEntry.getCustomerId(), creditEntry);
+        }
+        return creditEntries;
+    }
+
+    private Map<CustomerId, List<CreditHistory>> getCreditHistories(List<CustomerId> customerIds) {
+        Map<CustomerId, List<CreditHistory>> creditHistories = new HashMap<>(
+            customerIds.size() * 2
+        );
+        for (CreditHistory creditHistory : creditHistoryRepository.findByCustomerIds(customerIds)) {
+            creditHistories
+                .computeIfAbsent(creditHistory.getCustomerId(), customerId -> new ArrayList<>())
+                .add(creditHistory);
+        }
+        return creditHistories;
+    }
+
+    private CreditEntry getCreditEntry(
+        Map<CustomerId, CreditEntry> creditEntries,
+        CustomerId customerId
+    ) {
+        CreditEntry creditEntry = creditEntries.get(customerId);
+        if (creditEntry == null) {
+            log.error("Could not find credit entry for customer: {}", customerId.getValue());
+            throw new PaymentApplicationException(
+                "Could not find credit entry for customer: " + customerId.getValue()
+            );
+        }
+        return creditEntry;
+    }
+
+    private List<CreditHistory> getCreditHistory(
+        Map<CustomerId, List<CreditHistory>> creditHistories,
+        CustomerId customerId
+    ) {
+        List<CreditHistory> customerCreditHistories = creditHistories.get(customerId);
+        if (customerCreditHistories == null || customerCreditHistories.isEmpty()) {
+            log.error("Could not find credit history for customer: {}", customerId.getValue());
+            throw new PaymentApplicationException(
+                "Could not find credit history for customer: " + customerId.getValue()
+            );
+        }
+        return customerCreditHistories;
+    }
+}
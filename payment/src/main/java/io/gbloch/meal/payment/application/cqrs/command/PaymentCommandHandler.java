@@ -18,6 +18,7 @@ package io.gbloch.meal.payment.application.cqrs.command;
 
 import io.gbloch.meal.domain.vo.CustomerId;
 import io.gbloch.meal.domain.vo.OrderId;
+import io.gbloch.meal.infrastructure.concurrency.ConcurrencyLimited;
 import io.gbloch.meal.payment.application.dto.PaymentRequest;
 import io.gbloch.meal.payment.application.error.PaymentApplicationException;
 import io.gbloch.meal.payment.application.mapper.PaymentMapper;
@@ -44,6 +45,10 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * PaymentCommandHandler.
+ * <p>
+ * Payments share the {@code payment} concurrency limit. When batching is enabled, completions go
+ * through the {@link BatchingPaymentCommandHandler} instead, whose batch transactions take the
+ * same limit, each as one call in flight.
  *
  * @author Gaëtan Bloch
  * <br>Created on 13/05/2023
@@ -64,6 +69,7 @@ final class PaymentCommandHandler implements CompletePaymentUseCase, CancelPayme
 
     @Override
     @Transactional
+    @ConcurrencyLimited("payment")
     public void completePayment(PaymentRequest paymentRequest) {
         log.info("Received payment complete event for order id: {}", paymentRequest.getOrderId());
         Payment payment = paymentMapper.toPayment(paymentRequest);
@@ -117,6 +123,7 @@ final class PaymentCommandHandler implements CompletePaymentUseCase, CancelPayme
 
     @Override
     @Transactional
+    @ConcurrencyLimited("payment")
     public void cancelPayment(PaymentRequest paymentRequest) {
         log.info("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
         Optional<Payment> paymentResponse = paymentRepository.findByOrderId(
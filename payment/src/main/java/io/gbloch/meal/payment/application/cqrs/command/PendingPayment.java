@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.payment.application.cqrs.command;
+
+import io.gbloch.meal.payment.application.dto.PaymentRequest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.Getter;
+
+/**
+ * PendingPayment.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+final class PendingPayment {
+
+    @Getter
+    private final PaymentRequest paymentRequest;
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private RuntimeException failure;
+
+    PendingPayment(PaymentRequest paymentRequest) {
+        this.paymentRequest = paymentRequest;
+    }
+
+    boolean hasFailed() {
+        return failure != null;
+    }
+
+    void fail(RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    void complete() {
+        if (failure == null) {
+            completion.complete(null);
+        } else {
+            completion.completeExceptionally(failure);
+        }
+    }
+
+    void await() {
+        try {
+            completion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -20,6 +20,8 @@ import io.gbloch.meal.application.port.output.repository.Repository;
 import io.gbloch.meal.domain.vo.CustomerId;
 import io.gbloch.meal.payment.domain.entity.CreditEntry;
 import io.gbloch.meal.payment.domain.vo.CreditEntryId;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,4 +32,8 @@ import java.util.Optional;
  */
 public interface CreditEntryRepository extends Repository<CreditEntryId, CreditEntry> {
     Optional<CreditEntry> findByCustomerId(CustomerId customerId);
+
+    List<CreditEntry> findByCustomerIds(Collection<CustomerId> customerIds);
+
+    void saveAll(Collection<CreditEntry> creditEntries);
 }
@@ -20,6 +20,7 @@ import io.gbloch.meal.application.port.output.repository.Repository;
 import io.gbloch.meal.domain.vo.CustomerId;
 import io.gbloch.meal.payment.domain.entity.CreditHistory;
 import io.gbloch.meal.payment.domain.vo.CreditHistoryId;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -30,4 +31,8 @@ import java.util.List;
  */
 public interface CreditHistoryRepository extends Repository<CreditHistoryId, CreditHistory> {
     List<CreditHistory> findByCustomerId(CustomerId customerId);
+
+    List<CreditHistory> findByCustomerIds(Collection<CustomerId> customerIds);
+
+    void saveAll(Collection<CreditHistory> creditHistories);
 }
@@ -20,6 +20,7 @@ import io.gbloch.meal.application.port.output.repository.Repository;
 import io.gbloch.meal.domain.vo.OrderId;
 import io.gbloch.meal.payment.domain.entity.Payment;
 import io.gbloch.meal.payment.domain.vo.PaymentId;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -30,4 +31,6 @@ import java.util.Optional;
  */
 public interface PaymentRepository extends Repository<PaymentId, Payment> {
     Optional<Payment> findByOrderId(OrderId orderId);
+
+    void saveAll(Collection<Payment> payments);
 }
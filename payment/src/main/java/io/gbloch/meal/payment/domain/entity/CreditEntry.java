@@ -49,6 +49,10 @@ public final class CreditEntry extends EntityBase<CreditEntryId> {
         totalCreditAmount = totalCreditAmount.subtract(amount);
     }
 
+    public CreditEntry copy() {
+        return new CreditEntry(getId(), customerId, totalCreditAmount);
+    }
+
     public static CreditEntryBuilder builder() {
         return new CreditEntryBuilder();
     }
@@ -25,7 +25,6 @@ import io.gbloch.meal.domain.vo.PaymentStatus;
 import io.gbloch.meal.payment.domain.vo.PaymentId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 import lombok.Getter;
 
 /**
@@ -65,7 +64,7 @@ public final class Payment extends EntityBase<PaymentId> {
     }
 
     public void initializePayment() {
-        setId(new PaymentId(UUID.randomUUID()));
+        setId(new PaymentId());
         this.createdAt = ZonedDateTime.now();
     }
 
@@ -17,7 +17,8 @@
 package io.gbloch.meal.payment.domain.event;
 
 import io.gbloch.meal.domain.event.DomainEvent;
-import io.gbloch.meal.domain.event.EventHeader;
+import io.gbloch.meal.domain.event.EventHeaderFactory;
+import io.gbloch.meal.domain.event.EventSourceType;
 import io.gbloch.meal.payment.domain.entity.Payment;
 import java.util.List;
 
@@ -35,6 +36,6 @@ public abstract class PaymentEvent extends DomainEvent<Payment> {
         this.setName(name);
         this.setPayload(payload);
         this.failureMessages = failureMessages;
-        this.setHeader(EventHeader.of());
+        this.setHeader(EventHeaderFactory.forSource(EventSourceType.PAYMENT).create());
     }
 }
@@ -29,7 +29,6 @@ import io.gbloch.meal.payment.domain.vo.CreditHistoryId;
 import io.gbloch.meal.payment.domain.vo.TransactionType;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.util.List;
-import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -120,7 +119,7 @@ public final class PaymentDomainService {
         creditHistories.add(
             CreditHistory
                 .builder()
-                .id(new CreditHistoryId(UUID.randomUUID()))
+                .id(new CreditHistoryId())
                 .customerId(payment.getCustomerId())
                 .amount(payment.getPrice())
                 .transactionType(transactionType)
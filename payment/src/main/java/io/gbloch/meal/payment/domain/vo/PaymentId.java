@@ -18,6 +18,7 @@ package io.gbloch.meal.payment.domain.vo;
 
 import io.gbloch.meal.core.annotations.ddd.ValueObject;
 import io.gbloch.meal.domain.vo.IdBase;
+import io.gbloch.meal.domain.vo.IdGenerator;
 import java.util.UUID;
 
 /**
@@ -32,4 +33,8 @@ public final class PaymentId extends IdBase<UUID> {
     public PaymentId(UUID value) {
         super(value);
     }
+
+    public PaymentId() {
+        super(IdGenerator.next());
+    }
 }
@@ -24,6 +24,9 @@ import io.gbloch.meal.payment.infrastucture.entity.CreditEntryEntity;
 import io.gbloch.meal.payment.infrastucture.mapper.CreditEntryMapper;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
@@ -58,4 +61,21 @@ public final class CreditEntryRepositoryImpl
             .firstResultOptional()
             .map(this.creditEntryMapper::toCreditEntry);
     }
+
+    @Override
+    public List<CreditEntry> findByCustomerIds(Collection<CustomerId> customerIds) {
+        return this.list("customerId in ?1", customerIds.stream().map(CustomerId::getValue).toList())
+            .stream()
+            .map(this.creditEntryMapper::toCreditEntry)
+            .toList();
+    }
+
+    @Override
+    public void saveAll(Collection<CreditEntry> creditEntries) {
+        // Credit entries already exist, merging them lets Hibernate batch the updates on flush
+        EntityManager entityManager = this.getEntityManager();
+        for (CreditEntry creditEntry : creditEntries) {
+            entityManager.merge(this.creditEntryMapper.toCreditEntryEntity(creditEntry));
+        }
+    }
 }
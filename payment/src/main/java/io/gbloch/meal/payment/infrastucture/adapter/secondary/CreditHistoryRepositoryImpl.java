@@ -24,6 +24,7 @@ import io.gbloch.meal.payment.infrastucture.entity.CreditHistoryEntity;
 import io.gbloch.meal.payment.infrastucture.mapper.CreditHistoryMapper;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -60,4 +61,17 @@ public final class CreditHistoryRepositoryImpl
             .map(creditHistoryMapper::toCreditHistory)
             .toList();
     }
+
+    @Override
+    public List<CreditHistory> findByCustomerIds(Collection<CustomerId> customerIds) {
+        return list("customerId in ?1", customerIds.stream().map(CustomerId::getValue).toList())
+            .stream()
+            .map(creditHistoryMapper::toCreditHistory)
+            .toList();
+    }
+
+    @Override
+    public void saveAll(Collection<CreditHistory> creditHistories) {
+        persist(creditHistories.stream().map(creditHistoryMapper::toCreditHistoryEntity));
+    }
 }
@@ -24,6 +24,7 @@ import io.gbloch.meal.payment.infrastucture.entity.PaymentEntity;
 import io.gbloch.meal.payment.infrastucture.mapper.PaymentMapper;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Collection;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
@@ -56,4 +57,9 @@ public final class PaymentRepositoryImpl
     public Optional<Payment> findByOrderId(OrderId orderId) {
         return find("orderId", orderId).firstResultOptional().map(paymentMapper::toPayment);
     }
+
+    @Override
+    public void saveAll(Collection<Payment> payments) {
+        persist(payments.stream().map(paymentMapper::toPaymentEntity));
+    }
 }
@@ -18,6 +18,7 @@ package io.gbloch.meal.payment.infrastucture.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -38,7 +39,10 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "credit_entry")
+@Table(
+    name = "credit_entry",
+    indexes = @Index(name = "uk_credit_entry_customer_id", columnList = "customerId", unique = true)
+)
 @Entity
 public class CreditEntryEntity {
 
@@ -21,6 +21,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -41,7 +42,10 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "credit_history")
+@Table(
+    name = "credit_history",
+    indexes = @Index(name = "idx_credit_history_customer_id", columnList = "customerId")
+)
 @Entity
 public class CreditHistoryEntity {
 
@@ -21,6 +21,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
@@ -42,7 +43,10 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "payments")
+@Table(
+    name = "payments",
+    indexes = @Index(name = "uk_payments_order_id", columnList = "orderId", unique = true)
+)
 @Entity
 public class PaymentEntity {
 
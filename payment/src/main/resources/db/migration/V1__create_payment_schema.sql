@@ -0,0 +1,33 @@
+CREATE TABLE payments
+(
+    id          UUID NOT NULL,
+    customer_id UUID,
+    order_id    UUID,
+    price       NUMERIC(38, 2),
+    status      VARCHAR(255),
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT payments_pkey PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_payments_order_id ON payments (order_id);
+
+CREATE TABLE credit_entry
+(
+    id                  UUID NOT NULL,
+    customer_id         UUID,
+    total_credit_amount NUMERIC(38, 2),
+    CONSTRAINT credit_entry_pkey PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_credit_entry_customer_id ON credit_entry (customer_id);
+
+CREATE TABLE credit_history
+(
+    id          UUID NOT NULL,
+    customer_id UUID,
+    amount      NUMERIC(38, 2),
+    type        VARCHAR(255),
+    CONSTRAINT credit_history_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_credit_history_customer_id ON credit_history (customer_id);
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.payment.infrastucture.adapter.secondary;
+
+import io.gbloch.meal.infrastructure.datasource.MigratedDatabase;
+import java.io.IOException;
+import java.sql.SQLException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the lookups of payments and credits are served by the indexes of the Flyway
+ * migrations, on tables of {@value #ROWS} rows.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+class PaymentSchemaIndexTest {
+
+    private static final int ROWS = 10_000;
+
+    private static MigratedDatabase database;
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        database = MigratedDatabase.start();
+        database.fill(
+            "payments",
+            ROWS,
+            "id, customer_id, order_id",
+            "md5('p' || i)::uuid, md5('c' || i)::uuid, md5('o' || i)::uuid"
+        );
+        database.fill(
+            "credit_entry",
+            ROWS,
+            "id, customer_id",
+            "md5('e' || i)::uuid, md5('c' || i)::uuid"
+        );
+        database.fill(
+            "credit_history",
+            ROWS,
+            "id, customer_id",
+            "md5('h' || i)::uuid, md5('c' || i % 2500)::uuid"
+        );
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        database.close();
+    }
+
+    @Test
+    void paymentsByOrderIdUseTheUniqueIndex() throws SQLException {
+        database.assertIndexScan("payments", "order_id", "uk_payments_order_id");
+    }
+
+    @Test
+    void creditEntryByCustomerIdUsesTheUniqueIndex() throws SQLException {
+        database.assertIndexScan("credit_entry", "customer_id", "uk_credit_entry_customer_id");
+    }
+
+    @Test
+    void creditHistoryByCustomerIdUsesTheIndex() throws SQLException {
+        database.assertIndexScan("credit_history", "customer_id", "idx_credit_history_customer_id");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.restaurant.application.cqrs.command;
+
+import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.domain.vo.RestaurantId;
+import io.gbloch.meal.restaurant.application.port.input.RestaurantCatalogChangedUseCase;
+import io.gbloch.meal.restaurant.application.port.output.cache.RestaurantCatalogCache;
+import io.gbloch.meal.restaurant.application.port.output.message.publisher.RestaurantCatalogMessagePublisher;
+import io.gbloch.meal.restaurant.application.port.output.repository.RestaurantRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refreshes the cached catalogs on every captured change, and publishes the new snapshot of each
+ * affected restaurant to the services replicating the catalogs.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@Slf4j
+@RequiredArgsConstructor
+final class RestaurantCatalogCommandHandler implements RestaurantCatalogChangedUseCase {
+
+    private final RestaurantCatalogCache restaurantCatalogCache;
+
+    private final RestaurantRepository restaurantRepository;
+
+    private final RestaurantCatalogMessagePublisher restaurantCatalogMessagePublisher;
+
+    @Override
+    @ActivateRequestContext
+    public void restaurantChanged(RestaurantId restaurantId) {
+        log.debug("Restaurant catalog changed for restaurant id: {}", restaurantId.getValue());
+        refreshCatalog(restaurantId);
+    }
+
+    @Override
+    @ActivateRequestContext
+    public void productChanged(ProductId productId) {
+        log.debug("Restaurant catalog changed for product id: {}", productId.getValue());
+        restaurantRepository.findIdsByProductId(productId).forEach(this::refreshCatalog);
+    }
+
+    private void refreshCatalog(RestaurantId restaurantId) {
+        restaurantCatalogCache.invalidate(restaurantId);
+        // Reloading through the cache also warms it with the new snapshot
+        restaurantCatalogCache
+            .get(restaurantId)
+            .ifPresentOrElse(
+                restaurantCatalogMessagePublisher::publish,
+                () ->
+                    log.warn(
+                        "No catalog to publish for restaurant id: {}",
+                        restaurantId.getValue()
+                    )
+            );
+    }
+}
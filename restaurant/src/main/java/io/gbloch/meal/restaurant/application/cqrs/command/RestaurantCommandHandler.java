@@ -21,11 +21,12 @@ import io.gbloch.meal.restaurant.application.dto.RestaurantApprovalRequest;
 import io.gbloch.meal.restaurant.application.error.RestaurantApplicationException;
 import io.gbloch.meal.restaurant.application.mapper.RestaurantMapper;
 import io.gbloch.meal.restaurant.application.port.input.ApproveOrderUseCase;
+import io.gbloch.meal.restaurant.application.port.output.cache.RestaurantCatalogCache;
 import io.gbloch.meal.restaurant.application.port.output.repository.OrderApprovalRepository;
-import io.gbloch.meal.restaurant.application.port.output.repository.RestaurantRepository;
 import io.gbloch.meal.restaurant.domain.entity.Restaurant;
 import io.gbloch.meal.restaurant.domain.event.OrderApprovalEvent;
 import io.gbloch.meal.restaurant.domain.service.RestaurantDomainService;
+import io.gbloch.meal.restaurant.domain.vo.RestaurantCatalog;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
@@ -48,7 +49,7 @@ final class RestaurantCommandHandler implements ApproveOrderUseCase {
 
     private final RestaurantDomainService restaurantDomainService;
     private final RestaurantMapper restaurantMapper;
-    private final RestaurantRepository restaurantRepository;
+    private final RestaurantCatalogCache restaurantCatalogCache;
     private final OrderApprovalRepository orderApprovalRepository;
 
     @Transactional
@@ -70,33 +71,19 @@ final class RestaurantCommandHandler implements ApproveOrderUseCase {
 
     private Restaurant findRestaurant(RestaurantApprovalRequest restaurantApprovalRequest) {
         Restaurant restaurant = restaurantMapper.toRestaurant(restaurantApprovalRequest);
-        Optional<Restaurant> restaurantResult = restaurantRepository.findById(restaurant.getId());
-        if (restaurantResult.isEmpty()) {
+        Optional<RestaurantCatalog> restaurantCatalog = restaurantCatalogCache.get(
+            restaurant.getId()
+        );
+        if (restaurantCatalog.isEmpty()) {
             log.error("Restaurant with id " + restaurant.getId().getValue() + " not found!");
             throw new RestaurantApplicationException(
                 "Restaurant with id " + restaurant.getId().getValue() + " not found!"
             );
         }
 
-        Restaurant restaurantEntity = restaurantResult.get();
-        restaurant.setActiveType(restaurantEntity.getActiveType());
-        restaurant
-            .getOrderDetail()
-            .getProducts()
-            .forEach(product ->
-                restaurantEntity
-                    .getOrderDetail()
-                    .getProducts()
-                    .forEach(p -> {
-                        if (p.getId().equals(product.getId())) {
-                            product.updateNameAndAvailability(
-                                p.getLabel().label(),
-                                p.getPrice(),
-                                p.getAvailability()
-                            );
-                        }
-                    })
-            );
+        RestaurantCatalog catalog = restaurantCatalog.get();
+        restaurant.setActiveType(catalog.activeType());
+        restaurant.applyProductCatalog(catalog.products());
         restaurant.getOrderDetail().setId(new OrderId(restaurantApprovalRequest.getOrderId()));
 
         return restaurant;
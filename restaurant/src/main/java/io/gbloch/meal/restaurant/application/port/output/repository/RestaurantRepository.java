@@ -17,8 +17,12 @@
 package io.gbloch.meal.restaurant.application.port.output.repository;
 
 import io.gbloch.meal.application.port.output.repository.Repository;
+import io.gbloch.meal.domain.vo.ProductId;
 import io.gbloch.meal.domain.vo.RestaurantId;
 import io.gbloch.meal.restaurant.domain.entity.Restaurant;
+import io.gbloch.meal.restaurant.domain.vo.RestaurantCatalog;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * RestaurantRepository.
@@ -26,4 +30,8 @@ import io.gbloch.meal.restaurant.domain.entity.Restaurant;
  * @author Gaëtan Bloch
  * <br>Created on 13/05/2023
  */
-public interface RestaurantRepository extends Repository<RestaurantId, Restaurant> {}
+public interface RestaurantRepository extends Repository<RestaurantId, Restaurant> {
+    Optional<RestaurantCatalog> findCatalogById(RestaurantId id);
+
+    List<RestaurantId> findIdsByProductId(ProductId productId);
+}
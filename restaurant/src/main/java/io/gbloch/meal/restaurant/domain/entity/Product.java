@@ -55,7 +55,7 @@ public final class Product extends EntityBase<ProductId> {
     public void updateNameAndAvailability(String name, Money price, AvailabilityType available) {
         this.label = new ProductLabel(name);
         this.price = price;
-        this.availability = availability;
+        this.availability = available;
     }
 
     public static ProductBuilder builder() {
@@ -25,8 +25,8 @@ import io.gbloch.meal.domain.vo.OrderApprovalStatus;
 import io.gbloch.meal.domain.vo.OrderStatus;
 import io.gbloch.meal.domain.vo.RestaurantId;
 import io.gbloch.meal.restaurant.domain.vo.OrderApprovalId;
+import io.gbloch.meal.restaurant.domain.vo.ProductCatalog;
 import java.util.List;
-import java.util.UUID;
 import lombok.Getter;
 
 /**
@@ -42,6 +42,7 @@ public final class Restaurant extends EntityBase<RestaurantId> {
     private final OrderDetail orderDetail;
     private OrderApproval orderApproval;
     private ActiveType activeType;
+    private ProductCatalog productCatalog;
 
     private Restaurant(
         RestaurantId id,
@@ -59,29 +60,48 @@ public final class Restaurant extends EntityBase<RestaurantId> {
         if (orderDetail.getOrderStatus() != OrderStatus.PAID) {
             failureMessages.add("Payment is not completed for order: " + orderDetail.getId());
         }
-        Money totalAmount = orderDetail
-            .getProducts()
-            .stream()
-            .map(product -> {
-                if (!product.getAvailability().equals(AvailabilityType.AVAILABLE)) {
-                    failureMessages.add(
-                        "Product with id: " + product.getId().getValue() + " is not available"
-                    );
-                }
-                return product.getPrice().multiply(product.getQuantity().quantity());
-            })
-            .reduce(Money.ZERO, Money::add);
+        Money totalAmount = Money.ZERO;
+        for (Product product : orderDetail.getProducts()) {
+            if (product.getAvailability() != AvailabilityType.AVAILABLE) {
+                failureMessages.add(
+                    "Product with id: " + product.getId().getValue() + " is not available"
+                );
+            }
+            totalAmount =
+                totalAmount.add(product.getPrice().multiply(product.getQuantity().quantity()));
+        }
 
         if (!totalAmount.equals(orderDetail.getTotalAmount())) {
             failureMessages.add("Price total is not correct for order: " + orderDetail.getId());
         }
     }
 
+    public ProductCatalog getProductCatalog() {
+        if (productCatalog == null) {
+            productCatalog = ProductCatalog.of(orderDetail.getProducts());
+        }
+        return productCatalog;
+    }
+
+    public void applyProductCatalog(ProductCatalog catalog) {
+        for (Product product : orderDetail.getProducts()) {
+            catalog
+                .find(product.getId())
+                .ifPresent(snapshot ->
+                    product.updateNameAndAvailability(
+                        snapshot.label().label(),
+                        snapshot.price(),
+                        snapshot.availability()
+                    )
+                );
+        }
+    }
+
     public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus) {
         this.orderApproval =
             OrderApproval
                 .builder()
-                .id(new OrderApprovalId(UUID.randomUUID()))
+                .id(new OrderApprovalId())
                 .restaurantId(this.getId())
                 .orderId(this.getOrderDetail().getId())
                 .approvalStatus(orderApprovalStatus)
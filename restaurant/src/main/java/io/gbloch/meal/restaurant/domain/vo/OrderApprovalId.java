@@ -17,6 +17,7 @@
 package io.gbloch.meal.restaurant.domain.vo;
 
 import io.gbloch.meal.domain.vo.IdBase;
+import io.gbloch.meal.domain.vo.IdGenerator;
 import java.util.UUID;
 
 /**
@@ -30,4 +31,8 @@ public final class OrderApprovalId extends IdBase<UUID> {
     public OrderApprovalId(UUID value) {
         super(value);
     }
+
+    public OrderApprovalId() {
+        super(IdGenerator.next());
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.restaurant.domain.vo;
+
+import io.gbloch.meal.core.annotations.ddd.ValueObject;
+import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.restaurant.domain.entity.Product;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable index of the products of a restaurant by {@link ProductId}.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ValueObject
+public final class ProductCatalog {
+
+    public static final ProductCatalog EMPTY = new ProductCatalog(Collections.emptyMap());
+
+    private final Map<ProductId, ProductSnapshot> products;
+
+    private ProductCatalog(Map<ProductId, ProductSnapshot> products) {
+        this.products = products;
+    }
+
+    public static ProductCatalog of(Collection<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return EMPTY;
+        }
+        Map<ProductId, ProductSnapshot> snapshots = new HashMap<>(
+            (int) (products.size() / 0.75f) + 1
+        );
+        for (Product product : products) {
+            snapshots.put(product.getId(), ProductSnapshot.of(product));
+        }
+        return new ProductCatalog(Collections.unmodifiableMap(snapshots));
+    }
+
+    public Optional<ProductSnapshot> find(ProductId productId) {
+        return Optional.ofNullable(products.get(productId));
+    }
+
+    public Collection<ProductSnapshot> getProducts() {
+        return products.values();
+    }
+
+    public int size() {
+        return products.size();
+    }
+}
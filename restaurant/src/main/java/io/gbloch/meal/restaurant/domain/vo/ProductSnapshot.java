@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.restaurant.domain.vo;
+
+import io.gbloch.meal.core.annotations.ddd.ValueObject;
+import io.gbloch.meal.domain.vo.AvailabilityType;
+import io.gbloch.meal.domain.vo.Money;
+import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.domain.vo.ProductLabel;
+import io.gbloch.meal.restaurant.domain.entity.Product;
+
+/**
+ * ProductSnapshot.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ValueObject
+public record ProductSnapshot(
+    ProductId id,
+    ProductLabel label,
+    Money price,
+    AvailabilityType availability
+) {
+    public static ProductSnapshot of(Product product) {
+        return new ProductSnapshot(
+            product.getId(),
+            product.getLabel(),
+            product.getPrice(),
+            product.getAvailability()
+        );
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.restaurant.infrastucture.adapter.secondary;
+
+import io.gbloch.meal.domain.vo.RestaurantId;
+import io.gbloch.meal.restaurant.application.port.output.cache.RestaurantCatalogCache;
+import io.gbloch.meal.restaurant.application.port.output.repository.RestaurantRepository;
+import io.gbloch.meal.restaurant.domain.vo.RestaurantCatalog;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caffeine-backed {@link RestaurantCatalogCache}, bounded and instrumented through the
+ * {@code quarkus.cache.caffeine."restaurant-catalogs".*} properties.
+ * <p>
+ * Every snapshot loaded from the database gets a version from a monotonic counter taken before the
+ * load. Invalidations record the counter value at the time of the change, so that a load started
+ * before a change can never publish its stale snapshot after the invalidation.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+public final class RestaurantCatalogCacheImpl implements RestaurantCatalogCache {
+
+    static final String CACHE_NAME = "restaurant-catalogs";
+
+    private final CaffeineCache cache;
+    private final RestaurantRepository restaurantRepository;
+
+    private final Map<RestaurantId, Long> invalidations = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public RestaurantCatalogCacheImpl(
+        @CacheName(CACHE_NAME) Cache cache,
+        RestaurantRepository restaurantRepository
+    ) {
+        this.cache = cache.as(CaffeineCache.class);
+        this.restaurantRepository = restaurantRepository;
+    }
+
+    @Override
+    public Optional<RestaurantCatalog> get(RestaurantId restaurantId) {
+        CompletableFuture<RestaurantCatalog> cached = cache.getIfPresent(restaurantId.getValue());
+        RestaurantCatalog catalog = cached == null ? null : cached.getNow(null);
+        if (catalog != null) {
+            return Optional.of(catalog);
+        }
+        long version = versions.incrementAndGet();
+        Optional<RestaurantCatalog> loadedCatalog = restaurantRepository
+            .findCatalogById(restaurantId)
+            .map(restaurantCatalog -> restaurantCatalog.withVersion(version));
+        loadedCatalog.ifPresent(this::put);
+        return loadedCatalog;
+    }
+
+    @Override
+    public void invalidate(RestaurantId restaurantId) {
+        invalidations.put(restaurantId, versions.incrementAndGet());
+        cache.invalidate(restaurantId.getValue()).await().indefinitely();
+    }
+
+    private void put(RestaurantCatalog loadedCatalog) {
+        if (isStale(loadedCatalog)) {
+            return;
+        }
+        cache.put(
+            loadedCatalog.restaurantId().getValue(),
+            CompletableFuture.completedFuture(loadedCatalog)
+        );
+        // An invalidation may have happened while storing
+        if (isStale(loadedCatalog)) {
+            cache.invalidate(loadedCatalog.restaurantId().getValue()).await().indefinitely();
+        }
+    }
+
+    private boolean isStale(RestaurantCatalog catalog) {
+        return catalog.version() < invalidations.getOrDefault(catalog.restaurantId(), 0L);
+    }
+}
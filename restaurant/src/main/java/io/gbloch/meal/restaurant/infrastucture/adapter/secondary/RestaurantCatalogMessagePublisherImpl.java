@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.restaurant.infrastucture.adapter.secondary;
+
+import io.gbloch.meal.domain.vo.ActiveType;
+import io.gbloch.meal.domain.vo.AvailabilityType;
+import io.gbloch.meal.restaurant.application.dto.RestaurantCatalogMessage;
+import io.gbloch.meal.restaurant.application.port.output.message.publisher.RestaurantCatalogMessagePublisher;
+import io.gbloch.meal.restaurant.domain.vo.ProductSnapshot;
+import io.gbloch.meal.restaurant.domain.vo.RestaurantCatalog;
+import io.smallrye.reactive.messaging.kafka.Record;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+
+/**
+ * Publishes the catalog snapshots keyed by restaurant id, so that the snapshots of a restaurant
+ * land on the same partition and are consumed in order.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+public final class RestaurantCatalogMessagePublisherImpl
+    implements RestaurantCatalogMessagePublisher {
+
+    private final Emitter<Record<String, RestaurantCatalogMessage>> emitter;
+
+    public RestaurantCatalogMessagePublisherImpl(
+        @Channel("restaurant-catalogs") Emitter<Record<String, RestaurantCatalogMessage>> emitter
+    ) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void publish(RestaurantCatalog catalog) {
+        RestaurantCatalogMessage message = toMessage(catalog);
+        emitter.send(Record.of(message.restaurantId().toString(), message));
+    }
+
+    private static RestaurantCatalogMessage toMessage(RestaurantCatalog catalog) {
+        return RestaurantCatalogMessage
+            .builder()
+            .restaurantId(catalog.restaurantId().getValue())
+            .active(catalog.activeType() == ActiveType.ACTIVE)
+            .products(
+                catalog
+                    .products()
+                    .getProducts()
+                    .stream()
+                    .map(RestaurantCatalogMessagePublisherImpl::toCatalogProduct)
+                    .toList()
+            )
+            .build();
+    }
+
+    private static RestaurantCatalogMessage.CatalogProduct toCatalogProduct(
+        ProductSnapshot product
+    ) {
+        return RestaurantCatalogMessage.CatalogProduct
+            .builder()
+            .id(product.id().getValue())
+            .label(product.label().label())
+            .price(product.price().amount())
+            .available(product.availability() == AvailabilityType.AVAILABLE)
+            .build();
+    }
+}
@@ -16,14 +16,18 @@
 
 package io.gbloch.meal.restaurant.infrastucture.adapter.secondary;
 
+import io.gbloch.meal.domain.vo.ProductId;
 import io.gbloch.meal.domain.vo.RestaurantId;
 import io.gbloch.meal.restaurant.application.port.output.repository.RestaurantRepository;
 import io.gbloch.meal.restaurant.domain.entity.Restaurant;
+import io.gbloch.meal.restaurant.domain.vo.RestaurantCatalog;
 import io.gbloch.meal.restaurant.infrastucture.entity.RestaurantEntity;
 import io.gbloch.meal.restaurant.infrastucture.mapper.RestaurantMapper;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -48,4 +52,27 @@ public final class RestaurantRepositoryImpl
     public Optional<Restaurant> findById(RestaurantId id) {
         return find("id", id).firstResultOptional().map(restaurantMapper::toRestaurant);
     }
+
+    @Override
+    public Optional<RestaurantCatalog> findCatalogById(RestaurantId id) {
+        return find(
+            "select r from RestaurantEntity r left join fetch r.products where r.restaurantId = ?1",
+            id.getValue()
+        )
+            .singleResultOptional()
+            .map(restaurantMapper::toRestaurantCatalog);
+    }
+
+    @Override
+    public List<RestaurantId> findIdsByProductId(ProductId productId) {
+        return getEntityManager()
+            .createQuery(
+                "select r.restaurantId from RestaurantEntity r join r.products p where p.id = ?1",
+                UUID.class
+            )
+            .setParameter(1, productId.getValue())
+            .getResultStream()
+            .map(RestaurantId::new)
+            .toList();
+    }
 }
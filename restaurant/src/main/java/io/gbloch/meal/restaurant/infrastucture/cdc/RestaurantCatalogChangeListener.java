@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.restaurant.infrastucture.cdc;
+
+import static io.debezium.data.Envelope.FieldName.AFTER;
+import static io.debezium.data.Envelope.FieldName.BEFORE;
+import static io.debezium.data.Envelope.FieldName.SOURCE;
+
+import io.debezium.embedded.Connect;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.RecordChangeEvent;
+import io.debezium.engine.format.ChangeEventFormat;
+import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.domain.vo.RestaurantId;
+import io.gbloch.meal.infrastructure.outbox.DebeziumConfiguration;
+import io.gbloch.meal.restaurant.application.port.input.RestaurantCatalogChangedUseCase;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.io.IOException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.eclipse.microprofile.context.ManagedExecutor;
+
+/**
+ * Captures the changes of the restaurants, products and their association to refresh the
+ * restaurant catalogs.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@ApplicationScoped
+@Slf4j
+@RequiredArgsConstructor
+public final class RestaurantCatalogChangeListener {
+
+    private static final String CONNECTOR_NAME = "restaurants-catalog-connector";
+    private static final String SLOT_NAME = "restaurants_catalog";
+    private static final String RESTAURANTS_TABLE = "restaurants";
+    private static final String PRODUCTS_TABLE = "products";
+    private static final String RESTAURANTS_PRODUCTS_TABLE = "restaurants_products";
+
+    private final ManagedExecutor executor;
+    private final DebeziumConfiguration debeziumConfiguration;
+    private final RestaurantCatalogChangedUseCase restaurantCatalogChangedUseCase;
+
+    private DebeziumEngine<RecordChangeEvent<SourceRecord>> engine;
+
+    void onStart(@Observes StartupEvent event) {
+        this.engine =
+            DebeziumEngine
+                .create(ChangeEventFormat.of(Connect.class))
+                .using(
+                    debeziumConfiguration
+                        .configure(
+                            CONNECTOR_NAME,
+                            SLOT_NAME,
+                            String.join(
+                                ",",
+                                "public." + RESTAURANTS_TABLE,
+                                "public." + PRODUCTS_TABLE,
+                                "public." + RESTAURANTS_PRODUCTS_TABLE
+                            )
+                        )
+                        .asProperties()
+                )
+                .notifying(this::handleChangeEvent)
+                .build();
+        this.executor.execute(this.engine);
+    }
+
+    void handleChangeEvent(RecordChangeEvent<SourceRecord> changeEvent) {
+        Struct changeValue = (Struct) changeEvent.record().value();
+        // Tombstones following deletions carry no value
+        if (changeValue == null) {
+            return;
+        }
+        Struct row = changeValue.getStruct(AFTER) != null
+            ? changeValue.getStruct(AFTER)
+            : changeValue.getStruct(BEFORE);
+        if (row == null) {
+            return;
+        }
+        String table = changeValue.getStruct(SOURCE).getString("table");
+        switch (table) {
+            case RESTAURANTS_TABLE, RESTAURANTS_PRODUCTS_TABLE -> restaurantCatalogChangedUseCase.restaurantChanged(
+                new RestaurantId(getUuid(row, "restaurant_id"))
+            );
+            case PRODUCTS_TABLE -> restaurantCatalogChangedUseCase.productChanged(
+                new ProductId(getUuid(row, "id"))
+            );
+            default -> log.warn("Ignoring change captured on table: {}", table);
+        }
+    }
+
+    private static UUID getUuid(Struct row, String column) {
+        return UUID.fromString(row.getString(column));
+    }
+
+    void onStop(@Observes ShutdownEvent event) throws IOException {
+        if (this.engine != null) {
+            this.engine.close();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -40,7 +41,10 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "order_approval")
+@Table(
+    name = "order_approval",
+    indexes = @Index(name = "uk_order_approval_order_id", columnList = "orderId", unique = true)
+)
 @Entity
 public class OrderApprovalEntity {
 
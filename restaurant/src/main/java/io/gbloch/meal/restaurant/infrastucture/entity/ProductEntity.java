@@ -50,6 +50,7 @@ public class ProductEntity {
 
     private String label;
     private BigDecimal price;
+    private boolean available;
 
     @ManyToMany(mappedBy = "products")
     private Set<RestaurantEntity> restaurantEntitySet = new HashSet<>();
@@ -16,10 +16,22 @@
 
 package io.gbloch.meal.restaurant.infrastucture.mapper;
 
+import io.gbloch.meal.domain.vo.ActiveType;
+import io.gbloch.meal.domain.vo.AvailabilityType;
+import io.gbloch.meal.domain.vo.Money;
+import io.gbloch.meal.domain.vo.ProductId;
+import io.gbloch.meal.domain.vo.ProductLabel;
+import io.gbloch.meal.domain.vo.RestaurantId;
 import io.gbloch.meal.restaurant.domain.entity.OrderApproval;
+import io.gbloch.meal.restaurant.domain.entity.Product;
 import io.gbloch.meal.restaurant.domain.entity.Restaurant;
+import io.gbloch.meal.restaurant.domain.vo.ProductCatalog;
+import io.gbloch.meal.restaurant.domain.vo.RestaurantCatalog;
 import io.gbloch.meal.restaurant.infrastucture.entity.OrderApprovalEntity;
+import io.gbloch.meal.restaurant.infrastucture.entity.ProductEntity;
 import io.gbloch.meal.restaurant.infrastucture.entity.RestaurantEntity;
+import java.util.ArrayList;
+import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -42,4 +54,27 @@ public interface RestaurantMapper {
     @Mapping(target = "restaurantId.value", source = "restaurantId")
     @Mapping(target = "orderId.value", source = "orderId")
     OrderApproval toOrderApproval(OrderApprovalEntity orderApprovalEntity);
+
+    default RestaurantCatalog toRestaurantCatalog(RestaurantEntity restaurantEntity) {
+        List<Product> products = new ArrayList<>(restaurantEntity.getProducts().size());
+        for (ProductEntity productEntity : restaurantEntity.getProducts()) {
+            products.add(toProduct(productEntity));
+        }
+        return new RestaurantCatalog(
+            new RestaurantId(restaurantEntity.getRestaurantId()),
+            ActiveType.mapBoolean(restaurantEntity.isActive()),
+            ProductCatalog.of(products),
+            0L
+        );
+    }
+
+    default Product toProduct(ProductEntity productEntity) {
+        return Product
+            .builder()
+            .id(new ProductId(productEntity.getId()))
+            .label(new ProductLabel(productEntity.getLabel()))
+            .price(new Money(productEntity.getPrice()))
+            .availability(AvailabilityType.mapBoolean(productEntity.isAvailable()))
+            .build();
+    }
 }
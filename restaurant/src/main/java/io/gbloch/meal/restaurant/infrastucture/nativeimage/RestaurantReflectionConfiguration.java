@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 Gaëtan Bloch and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gbloch.meal.restaurant.infrastucture.nativeimage;
+
+import io.gbloch.meal.restaurant.application.dto.RestaurantApprovalRequest;
+import io.gbloch.meal.restaurant.application.dto.RestaurantCatalogMessage;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Native-image reflection registration of the restaurant service.
+ *
+ * <p>Approval requests are Lombok beans bound from message payloads, catalog snapshots are
+ * serialized into message payloads.
+ *
+ * @author Gaëtan Bloch
+ * <br>Created on 19/10/2026
+ */
+@RegisterForReflection(
+    targets = {
+        RestaurantApprovalRequest.class,
+        RestaurantCatalogMessage.class,
+        RestaurantCatalogMessage.CatalogProduct.class
+    }
+)
+public final class RestaurantReflectionConfiguration {
+
+    private RestaurantReflectionConfiguration() {}
+}
@@ -0,0 +1,38 @@
+CREATE TABLE restaurants
+(
+    restaurant_id UUID    NOT NULL,
+    active        BOOLEAN NOT NULL,
+    CONSTRAINT restaurants_pkey PRIMARY KEY (restaurant_id)
+);
+
+CREATE TABLE products
+(
+    id        UUID    NOT NULL,
+    label     VARCHAR(255),
+    price     NUMERIC(38, 2),
+    available BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT products_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE restaurants_products
+(
+    restaurant_id UUID NOT NULL,
+    product_id    UUID NOT NULL,
+    CONSTRAINT restaurants_products_pkey PRIMARY KEY (restaurant_id, product_id),
+    CONSTRAINT fk_restaurants_products_restaurant_id
+        FOREIGN KEY (restaurant_id) REFERENCES restaurants (restaurant_id),
+    CONSTRAINT fk_restaurants_products_product_id FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE INDEX idx_restaurants_products_product_id ON restaurants_products (product_id);
+
+CREATE TABLE order_approval
+(
+    id            UUID NOT NULL,
+    restaurant_id UUID,
+    order_id      UUID,
+    status        VARCHAR(255),
+    CONSTRAINT order_approval_pkey PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_order_approval_order_id ON order_approval (order_id);